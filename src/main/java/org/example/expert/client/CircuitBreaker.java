@@ -0,0 +1,51 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+
+// 연속 실패가 기준을 넘으면 일정 시간 동안 호출을 막고, 이후 한 번의 시험 호출로 복구 여부를 판단합니다.
+public class CircuitBreaker {
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+}
@@ -1,30 +1,174 @@
 package org.example.expert.client;
 
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+    private final long staleRetryMillis;
+    private Clock clock = Clock.systemDefaultZone();
+
+    // 날씨 데이터는 하루 단위로만 바뀌므로 날짜별로 한 번만 불러와 자정까지 재사용합니다.
+    private final AtomicReference<DailyWeather> dailyWeather = new AtomicReference<>();
+    // 날씨 API 장애 시 마지막으로 성공한 데이터로 응답합니다.
+    private final AtomicReference<Map<String, String>> lastKnownWeather = new AtomicReference<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong lastLoadMillis = new AtomicLong();
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.api.url:https://f-api.github.io/f-api/weather.json}") String weatherApiUrl,
+            @Value("${weather.api.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${weather.api.read-timeout:2s}") Duration readTimeout,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${weather.stale-retry:1m}") Duration staleRetry
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.weatherApiUri = UriComponentsBuilder.fromUriString(weatherApiUrl)
+                .encode()
+                .build()
+                .toUri();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.staleRetryMillis = staleRetry.toMillis();
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now(clock));
+    }
+
+    public String getWeather(LocalDate date) {
+        Map<String, String> weatherByDate = getWeatherByDate(LocalDate.now(clock));
+
+        String weather = weatherByDate.get(date.format(DATE_FORMATTER));
+        if (weather == null) {
+            throw new ServerException(date.format(DATE_FORMATTER) + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    public double getCacheHitRate() {
+        long hits = cacheHits.get();
+        long total = hits + cacheMisses.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public long getLastLoadMillis() {
+        return lastLoadMillis.get();
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    private Map<String, String> getWeatherByDate(LocalDate today) {
+        DailyWeather current = dailyWeather.get();
+        if (current != null && current.isValid(today, clock.millis())) {
+            cacheHits.incrementAndGet();
+            return await(current.weatherByDate());
+        }
+
+        DailyWeather loading = new DailyWeather(today, new CompletableFuture<>(), 0L);
+        if (!dailyWeather.compareAndSet(current, loading)) {
+            // 다른 요청이 먼저 불러오기 시작했다면 그 결과를 함께 기다립니다.
+            return getWeatherByDate(today);
+        }
+
+        cacheMisses.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            Map<String, String> weatherByDate = fetchWeatherByDate();
+            lastKnownWeather.set(weatherByDate);
+            loading.weatherByDate().complete(weatherByDate);
+            return weatherByDate;
+        } catch (RuntimeException e) {
+            Map<String, String> staleWeather = lastKnownWeather.get();
+            if (staleWeather != null) {
+                log.warn("날씨 데이터를 불러오지 못해 마지막으로 성공한 데이터를 사용합니다. message : {}", e.getMessage());
+                // 장애 중에 요청마다 날씨 API 를 다시 부르지 않도록 오래된 데이터도 stale-retry 동안은 캐시합니다.
+                dailyWeather.compareAndSet(loading, new DailyWeather(
+                        today, CompletableFuture.completedFuture(staleWeather), clock.millis() + staleRetryMillis));
+                loading.weatherByDate().complete(staleWeather);
+                return staleWeather;
+            }
+            // 보여줄 데이터가 없으면 실패를 캐시하지 않고 다음 요청에서 다시 불러옵니다.
+            dailyWeather.compareAndSet(loading, null);
+            loading.weatherByDate().completeExceptionally(e);
+            throw e;
+        } catch (Throwable e) {
+            // Error 가 나도 같은 날짜를 기다리는 요청이 멈추지 않도록 future 를 끝냅니다.
+            dailyWeather.compareAndSet(loading, null);
+            loading.weatherByDate().completeExceptionally(e);
+            throw e;
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastLoadMillis.set(elapsedMillis);
+            log.info("weather load : {}ms", elapsedMillis);
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 API 장애로 호출이 일시 중단되었습니다.");
+        }
+
+        try {
+            Map<String, String> weatherByDate = requestWeatherByDate();
+            circuitBreaker.recordSuccess();
+            return weatherByDate;
+        } catch (RestClientException e) {
+            circuitBreaker.recordFailure();
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            throw e;
+        }
+    }
+
+    private Map<String, String> requestWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -34,29 +178,29 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return weatherByDate;
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private Map<String, String> await(CompletableFuture<Map<String, String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    // retryAtMillis 는 오래된 데이터로 채운 경우에만 0 보다 크며, 그 시각이 지나면 다시 불러옵니다.
+    private record DailyWeather(LocalDate date, CompletableFuture<Map<String, String>> weatherByDate, long retryAtMillis) {
+
+        boolean isValid(LocalDate today, long nowMillis) {
+            return date.equals(today) && (retryAtMillis == 0L || nowMillis < retryAtMillis);
+        }
     }
 }
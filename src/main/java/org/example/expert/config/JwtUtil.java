@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,9 +13,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -22,16 +30,27 @@ public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final int MAX_CACHED_TOKENS = 10_000;
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 서명 검증을 마친 토큰의 claims 를 토큰 digest 기준으로 만료 시각까지 보관합니다.
+    private final Map<String, VerifiedClaims> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변 객체이므로 한 번만 만들어 모든 요청에서 공유합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -56,10 +75,63 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String digest = digest(token);
+
+        VerifiedClaims cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.isValidAt(System.currentTimeMillis())) {
+                cacheHits.incrementAndGet();
+                return cached.claims();
+            }
+            // 만료된 토큰은 캐시에서 제거하고 다시 파싱해 ExpiredJwtException 이 발생하도록 합니다.
+            verifiedTokens.remove(digest, cached);
+        }
+
+        cacheMisses.incrementAndGet();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        cacheVerifiedClaims(digest, claims);
+        return claims;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    private void cacheVerifiedClaims(String digest, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+
+        // 캐시가 가득 찬 경우 임의의 항목을 하나 비워 크기를 제한합니다.
+        if (verifiedTokens.size() >= MAX_CACHED_TOKENS) {
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedTokens.put(digest, new VerifiedClaims(claims, expiration.getTime()));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
+
+        private boolean isValidAt(long now) {
+            return now < expiresAt;
+        }
     }
 }
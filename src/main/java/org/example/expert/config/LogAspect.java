@@ -7,6 +7,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -56,7 +57,9 @@ public class LogAspect {
         log.info("time : {}", LocalDateTime.now());
         log.info("url : {}", request.getRequestURL().toString());
         if (result != null) {
-            responseData.put("responseBody", responseObjectMapper.readValue(result.toString(), Map.class));
+            // ResponseEntity 를 반환하는 관리자 API 는 본문 객체를 그대로 기록합니다.
+            Object responseBody = result instanceof ResponseEntity<?> entity ? entity.getBody() : result;
+            responseData.put("responseBody", responseBody);
             log.info(responseObjectMapper.writeValueAsString(responseData));
         }
 
@@ -1,17 +1,164 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_CALIBRATED_COST = 16;
+
+    // 0 이면 기동 시 target-millis 안에 해싱이 끝나는 가장 높은 cost 를 측정해 사용합니다.
+    @Value("${password.bcrypt.cost:0}")
+    private int cost;
+    @Value("${password.bcrypt.target-millis:100}")
+    private long targetMillis;
+
+    // 0 이면 CPU 코어 수만큼 스레드를 사용합니다.
+    @Value("${password.hashing.pool-size:0}")
+    private int poolSize;
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // bcrypt 는 CPU 를 많이 쓰므로 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+    private ThreadPoolExecutor hashingExecutor;
+
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        hashingExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy() // 대기열이 가득 차면 바로 거절합니다.
+        );
+
+        if (cost <= 0) {
+            cost = calibrateCost();
+        }
+        log.info("bcrypt cost : {}", cost);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> hash(rawPassword));
+    }
+
+    // 대량 가져오기용입니다. 스레드 수만큼씩 나눠 병렬로 해싱해 대기열을 비워 두고,
+    // 그래도 거절되면 503 대신 호출한 스레드에서 직접 해싱합니다.
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int window = hashingExecutor.getMaximumPoolSize();
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            List<Future<String>> futures = new ArrayList<>(window);
+            for (String rawPassword : rawPasswords.subList(from, Math.min(from + window, rawPasswords.size()))) {
+                try {
+                    futures.add(hashingExecutor.submit(() -> hash(rawPassword)));
+                } catch (RejectedExecutionException e) {
+                    futures.add(CompletableFuture.completedFuture(hash(rawPassword)));
+                }
+            }
+            for (Future<String> future : futures) {
+                encoded.add(await(future));
+            }
+        }
+        return encoded;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 다시 해싱해야 합니다.
+    public boolean needsRehash(String encodedPassword) {
+        // bcrypt 해시 형식: $2a$10$...
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    int calibrateCost() {
+        char[] sample = "calibration-password".toCharArray();
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample); // JIT 워밍업
+
+        int selected = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_CALIBRATED_COST; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, sample);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            selected = candidate;
+        }
+        return selected;
+    }
+
+    private String hash(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return await(future);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
     }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import org.springframework.util.AntPathMatcher;
+
+// 응답을 스트리밍으로 내보내는 경로입니다. 컨트롤러 매핑과 customFilter 의 캐싱 제외 목록이 함께 씁니다.
+public final class StreamingPaths {
+
+    public static final String TODO_EXPORT = "/admin/todos/export";
+    public static final String TODO_EVENTS = "/todos/{todoId}/events";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private StreamingPaths() {
+    }
+
+    static boolean matches(String uri) {
+        return TODO_EXPORT.equals(uri) || PATH_MATCHER.match(TODO_EVENTS, uri);
+    }
+}
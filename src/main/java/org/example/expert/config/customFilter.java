@@ -13,6 +13,12 @@ import java.io.IOException;
 @Component
 public class customFilter extends OncePerRequestFilter {
 
+    // 스트리밍 응답은 본문 전체를 메모리에 캐싱하면 안 되므로 감싸지 않습니다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return StreamingPaths.matches(request.getRequestURI());
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // ContentCachingRequestWrapper와 ContentCachingResponseWrapper로 감싸기
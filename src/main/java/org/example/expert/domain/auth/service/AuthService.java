@@ -13,6 +13,7 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -45,7 +46,9 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
-    @Transactional(readOnly = true)
+    // bcrypt 검증과 재해싱 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행합니다.
+    // 조회와 재해싱 저장은 각각 레포지토리의 짧은 트랜잭션에서 처리됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -55,6 +58,12 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인 성공 시점에 새 cost 로 다시 저장합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(signinRequest.getPassword());
+            userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed);
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
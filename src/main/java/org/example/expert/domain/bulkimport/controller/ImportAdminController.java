@@ -0,0 +1,26 @@
+package org.example.expert.domain.bulkimport.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.bulkimport.dto.response.ImportResponse;
+import org.example.expert.domain.bulkimport.service.ImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ImportAdminController {
+
+    private final ImportService importService;
+
+    @PostMapping("/admin/imports/users")
+    public ResponseEntity<ImportResponse> importUsers(@RequestParam String file) {
+        return ResponseEntity.ok(importService.importUsers(file));
+    }
+
+    @PostMapping("/admin/imports/todos")
+    public ResponseEntity<ImportResponse> importTodos(@RequestParam String file) {
+        return ResponseEntity.ok(importService.importTodos(file));
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.bulkimport.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ImportResponse {
+
+    private final String fileName;
+    private final long resumedFrom; // 체크포인트에서 건너뛴 행 수
+    private final long processed;   // 체크포인트 포함 지금까지 처리한 전체 행 수
+    private final long imported;
+    private final long skipped;     // 이미 존재하거나 파일 안에서 중복된 행
+    private final long failed;      // 형식이 잘못되었거나 참조 대상을 찾지 못한 행
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public ImportResponse(String fileName, long resumedFrom, long processed, long imported, long skipped, long failed, long elapsedMillis, long rowsPerSecond) {
+        this.fileName = fileName;
+        this.resumedFrom = resumedFrom;
+        this.processed = processed;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
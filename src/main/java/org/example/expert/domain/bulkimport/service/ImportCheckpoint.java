@@ -0,0 +1,62 @@
+package org.example.expert.domain.bulkimport.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// 가져오기 파일 옆의 <파일명>.checkpoint 에 파일 크기, 수정 시각과 커밋까지 끝난 행 수를 기록합니다.
+// 중간에 실패해도 다시 실행하면 기록된 행 다음부터 이어서 처리합니다.
+// 같은 이름이라도 크기나 수정 시각이 다르면 다른 파일로 보고 처음부터 처리하며, 끝까지 처리하면 체크포인트를 지웁니다.
+@Slf4j
+class ImportCheckpoint {
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path path;
+    private final String fileIdentity;
+
+    private ImportCheckpoint(Path path, String fileIdentity) {
+        this.path = path;
+        this.fileIdentity = fileIdentity;
+    }
+
+    static ImportCheckpoint of(Path file) throws IOException {
+        String fileIdentity = Files.size(file) + " " + Files.getLastModifiedTime(file).toMillis();
+        return new ImportCheckpoint(file.resolveSibling(file.getFileName() + SUFFIX), fileIdentity);
+    }
+
+    long read() throws IOException {
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+        String saved = Files.readString(path, StandardCharsets.UTF_8).trim();
+        int separator = saved.lastIndexOf(' ');
+        if (separator < 0) {
+            throw new IOException("체크포인트 파일이 손상되었습니다: " + path);
+        }
+        if (!saved.substring(0, separator).equals(fileIdentity)) {
+            log.warn("[import] {} 는 체크포인트를 남긴 파일과 다릅니다. 처음부터 가져옵니다.", path);
+            return 0L;
+        }
+        try {
+            return Long.parseLong(saved.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IOException("체크포인트 파일이 손상되었습니다: " + path, e);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체해 기록 도중 중단되어도 이전 값이 깨지지 않도록 합니다.
+    void write(long processedRows) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(temp, fileIdentity + " " + processedRows, StandardCharsets.UTF_8);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
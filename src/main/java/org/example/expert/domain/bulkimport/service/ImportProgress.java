@@ -0,0 +1,60 @@
+package org.example.expert.domain.bulkimport.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.bulkimport.dto.response.ImportResponse;
+
+import java.util.concurrent.TimeUnit;
+
+// 진행 상황을 집계하고 청크마다 초당 처리 행 수를 로그로 남깁니다.
+@Slf4j
+@Getter
+class ImportProgress {
+
+    private final String fileName;
+    private final long resumedFrom;
+    private final long startNanos = System.nanoTime();
+    private long processed;
+    private long imported;
+    private long skipped;
+    private long failed;
+
+    ImportProgress(String fileName, long resumedFrom) {
+        this.fileName = fileName;
+        this.resumedFrom = resumedFrom;
+        this.processed = resumedFrom;
+    }
+
+    void imported(long rows) {
+        imported += rows;
+        processed += rows;
+    }
+
+    void skipped() {
+        skipped++;
+        processed++;
+    }
+
+    void failed() {
+        failed++;
+        processed++;
+    }
+
+    void logProgress() {
+        log.info("[import] {} : {}행 처리 (추가 {}, 건너뜀 {}, 실패 {}), {} rows/s",
+                fileName, processed, imported, skipped, failed, rowsPerSecond());
+    }
+
+    ImportResponse toResponse() {
+        return new ImportResponse(fileName, resumedFrom, processed, imported, skipped, failed, elapsedMillis(), rowsPerSecond());
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private long rowsPerSecond() {
+        long elapsedMillis = Math.max(1L, elapsedMillis());
+        return (processed - resumedFrom) * 1000L / elapsedMillis;
+    }
+}
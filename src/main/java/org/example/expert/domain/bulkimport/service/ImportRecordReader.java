@@ -0,0 +1,131 @@
+package org.example.expert.domain.bulkimport.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 파일을 한 줄씩 읽어 컬럼명 -> 값 형태의 레코드로 바꿉니다.
+// CSV 는 첫 줄을 헤더로 사용하고, 그 외 확장자(.ndjson, .jsonl)는 한 줄에 JSON 객체 하나로 읽습니다.
+// 빈 줄은 건너뛰며 행 번호에 포함하지 않습니다. 따옴표 안의 줄바꿈은 지원하지 않습니다.
+class ImportRecordReader implements Closeable {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final List<String> csvHeader;
+
+    private ImportRecordReader(BufferedReader reader, ObjectMapper objectMapper, List<String> csvHeader) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvHeader = csvHeader;
+    }
+
+    static ImportRecordReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        if (!file.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            return new ImportRecordReader(reader, objectMapper, null);
+        }
+
+        String header = reader.readLine();
+        if (header == null) {
+            return new ImportRecordReader(reader, objectMapper, List.of());
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1); // UTF-8 BOM
+        }
+        return new ImportRecordReader(reader, objectMapper, parseCsvLine(header));
+    }
+
+    void skip(long rows) throws IOException {
+        for (long i = 0; i < rows && nextLine() != null; i++) {
+            // 체크포인트까지 이미 처리한 행은 파싱하지 않고 넘깁니다.
+        }
+    }
+
+    // 최대 size 개의 레코드를 읽습니다. 형식이 잘못된 행은 빈 레코드로 돌려줍니다.
+    List<Map<String, String>> nextChunk(int size) throws IOException {
+        List<Map<String, String>> chunk = new ArrayList<>(size);
+        String line;
+        while (chunk.size() < size && (line = nextLine()) != null) {
+            chunk.add(csvHeader != null ? toCsvRecord(line) : toJsonRecord(line));
+        }
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private Map<String, String> toCsvRecord(String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() != csvHeader.size()) {
+            return Map.of();
+        }
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < csvHeader.size(); i++) {
+            record.put(csvHeader.get(i).trim(), values.get(i));
+        }
+        return record;
+    }
+
+    private Map<String, String> toJsonRecord(String line) {
+        try {
+            Map<String, Object> json = objectMapper.readValue(line, JSON_OBJECT);
+            Map<String, String> record = new HashMap<>();
+            json.forEach((key, value) -> record.put(key, value == null ? null : String.valueOf(value)));
+            return record;
+        } catch (JsonProcessingException e) {
+            return Map.of();
+        }
+    }
+
+    // 쉼표 구분, 큰따옴표로 감싼 값과 "" 이스케이프를 지원합니다.
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
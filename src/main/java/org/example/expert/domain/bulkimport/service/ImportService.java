@@ -0,0 +1,213 @@
+package org.example.expert.domain.bulkimport.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.bulkimport.dto.response.ImportResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoBulkWriter;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 사용자/일정 대량 가져오기입니다. 파일을 청크 단위로 읽고(파싱) -> 검증, 중복 제거 -> 병렬 해싱 -> 청크별 트랜잭션 배치 INSERT 순서로 처리합니다.
+// 청크가 커밋될 때마다 체크포인트를 남기므로, 실패 후 다시 실행하면 이어서 진행합니다. 끝까지 처리하면 체크포인트를 지웁니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserImportWriter userImportWriter;
+    private final TodoBulkWriter todoBulkWriter;
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+
+    // 가져올 파일은 이 디렉터리 안에 있어야 합니다.
+    @Value("${bulk-import.directory:imports}")
+    private String importDirectory;
+
+    @Value("${todo.weather.deferred:false}")
+    private boolean deferredWeather;
+
+    // 컬럼: email, password, userRole
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importUsers(String fileName) {
+        return run(fileName, this::importUserChunk);
+    }
+
+    // 컬럼: email(작성자), title, contents
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importTodos(String fileName) {
+        String weather = resolveWeather();
+        return run(fileName, (chunk, progress) -> importTodoChunk(chunk, weather, progress));
+    }
+
+    private ImportResponse run(String fileName, ChunkImporter chunkImporter) {
+        Path file = resolve(fileName);
+
+        try (ImportRecordReader reader = ImportRecordReader.open(file, objectMapper)) {
+            ImportCheckpoint checkpoint = ImportCheckpoint.of(file);
+            long resumeFrom = checkpoint.read();
+            reader.skip(resumeFrom);
+            ImportProgress progress = new ImportProgress(fileName, resumeFrom);
+
+            List<Map<String, String>> chunk;
+            while (!(chunk = reader.nextChunk(CHUNK_SIZE)).isEmpty()) {
+                chunkImporter.importChunk(chunk, progress);
+                checkpoint.write(progress.getProcessed());
+                progress.logProgress();
+            }
+            checkpoint.delete();
+            return progress.toResponse();
+        } catch (IOException e) {
+            throw new ServerException("가져오기 파일을 처리할 수 없습니다: " + fileName);
+        } catch (DataAccessException e) {
+            log.error("[import] {} 저장 실패", fileName, e);
+            throw new ServerException("가져오기 중 저장에 실패했습니다. 다시 실행하면 마지막 체크포인트부터 이어서 진행합니다.");
+        }
+    }
+
+    private void importUserChunk(List<Map<String, String>> chunk, ImportProgress progress) {
+        List<Map<String, String>> candidates = new ArrayList<>(chunk.size());
+        Set<String> emails = new HashSet<>();
+        for (Map<String, String> record : chunk) {
+            String email = trim(record.get("email"));
+            if (!isValidUser(record, email)) {
+                progress.failed();
+            } else if (!emails.add(email)) {
+                progress.skipped(); // 같은 청크 안의 중복
+            } else {
+                candidates.add(record);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 이전 청크와의 중복도 이 조회로 걸러집니다.
+        Set<String> existing = new HashSet<>(userRepository.findEmailsIn(emails));
+        List<Map<String, String>> newUsers = new ArrayList<>(candidates.size());
+        for (Map<String, String> record : candidates) {
+            if (existing.contains(trim(record.get("email")))) {
+                progress.skipped();
+            } else {
+                newUsers.add(record);
+            }
+        }
+        if (newUsers.isEmpty()) {
+            return;
+        }
+
+        List<String> encodedPasswords = passwordEncoder.encodeAll(newUsers.stream().map(record -> record.get("password")).toList());
+        List<User> users = new ArrayList<>(newUsers.size());
+        for (int i = 0; i < newUsers.size(); i++) {
+            Map<String, String> record = newUsers.get(i);
+            users.add(new User(trim(record.get("email")), encodedPasswords.get(i), UserRole.of(trim(record.get("userRole")))));
+        }
+
+        userImportWriter.saveChunk(users);
+        progress.imported(users.size());
+    }
+
+    private void importTodoChunk(List<Map<String, String>> chunk, String weather, ImportProgress progress) {
+        Set<String> ownerEmails = chunk.stream()
+                .map(record -> trim(record.get("email")))
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+        Map<String, User> owners = ownerEmails.isEmpty() ? Map.of() : userRepository.findAllByEmailIn(ownerEmails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        List<Todo> todos = new ArrayList<>(chunk.size());
+        for (Map<String, String> record : chunk) {
+            User owner = owners.get(trim(record.get("email")));
+            String title = record.get("title");
+            String contents = record.get("contents");
+            if (owner == null || !StringUtils.hasText(title) || !StringUtils.hasText(contents)) {
+                progress.failed();
+                continue;
+            }
+            todos.add(new Todo(title, contents, weather, owner));
+        }
+        if (todos.isEmpty()) {
+            return;
+        }
+
+        todoBulkWriter.saveChunk(todos);
+        progress.imported(todos.size());
+    }
+
+    private boolean isValidUser(Map<String, String> record, String email) {
+        if (email == null || !email.contains("@") || !StringUtils.hasText(record.get("password"))) {
+            return false;
+        }
+        try {
+            UserRole.of(trim(record.get("userRole")));
+            return true;
+        } catch (InvalidRequestException e) {
+            return false;
+        }
+    }
+
+    // 파일 전체에 대해 날씨는 한 번만 조회합니다. 실패하면 비워 두고 가져오기는 계속 진행합니다.
+    private String resolveWeather() {
+        if (deferredWeather) {
+            return null;
+        }
+        try {
+            return weatherClient.getTodayWeather();
+        } catch (ServerException e) {
+            log.warn("[import] 날씨 조회 실패, 날씨 없이 가져옵니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Path resolve(String fileName) {
+        if (!StringUtils.hasText(fileName)) {
+            throw new InvalidRequestException("가져올 파일 이름이 필요합니다.");
+        }
+        Path directory = Paths.get(importDirectory).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new InvalidRequestException("가져오기 디렉터리 밖의 파일은 사용할 수 없습니다.");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new InvalidRequestException("가져올 파일이 존재하지 않습니다: " + fileName);
+        }
+        return file;
+    }
+
+    private String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    @FunctionalInterface
+    private interface ChunkImporter {
+        void importChunk(List<Map<String, String>> chunk, ImportProgress progress);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.bulkimport.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 청크 하나를 하나의 트랜잭션에서 JDBC 배치로 저장합니다.
+@Component
+@RequiredArgsConstructor
+public class UserImportWriter {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    public void saveChunk(List<User> users) {
+        userRepository.saveAll(users);
+    }
+}
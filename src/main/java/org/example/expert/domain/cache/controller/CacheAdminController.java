@@ -0,0 +1,26 @@
+package org.example.expert.domain.cache.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.cache.dto.response.CacheStatisticsResponse;
+import org.example.expert.domain.cache.service.CacheStatisticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/admin/cache/statistics")
+    public ResponseEntity<CacheStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+
+    @DeleteMapping("/admin/cache/statistics")
+    public void clearStatistics() {
+        cacheStatisticsService.clearStatistics();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.cache.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CacheRegionResponse {
+
+    private final String region;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final double hitRatio;
+
+    public CacheRegionResponse(String region, long hitCount, long missCount, long putCount) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        long lookups = hitCount + missCount;
+        this.hitRatio = lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.cache.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CacheStatisticsResponse {
+
+    private final boolean statisticsEnabled;
+    private final List<CacheRegionResponse> regions; // 엔티티 영역
+
+    public CacheStatisticsResponse(boolean statisticsEnabled, List<CacheRegionResponse> regions) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.regions = regions;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.cache.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.cache.dto.response.CacheRegionResponse;
+import org.example.expert.domain.cache.dto.response.CacheStatisticsResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Hibernate 2차 캐시 영역별 적중/실패 통계를 제공합니다. generate_statistics 가 켜져 있어야 집계됩니다.
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsResponse getStatistics() {
+        Statistics statistics = getHibernateStatistics();
+
+        List<CacheRegionResponse> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                    return new CacheRegionResponse(region,
+                            regionStatistics.getHitCount(),
+                            regionStatistics.getMissCount(),
+                            regionStatistics.getPutCount());
+                })
+                .toList();
+
+        return new CacheStatisticsResponse(statistics.isStatisticsEnabled(), regions);
+    }
+
+    public void clearStatistics() {
+        getHibernateStatistics().clear();
+    }
+
+    private Statistics getHibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -1,11 +1,16 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -19,4 +24,9 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @DeleteMapping("/admin/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(commentBulkDeleteRequest));
+    }
 }
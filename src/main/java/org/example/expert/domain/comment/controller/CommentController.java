@@ -8,8 +8,13 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
@@ -19,6 +24,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final TodoETagService todoETagService;
 
     @PostMapping
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -29,8 +35,33 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 응답 크기를 제한하려고 첫 페이지만 내려줍니다. 댓글이 더 있으면 Link 헤더(rel="next")로 커서 API 의 다음 페이지를 알려줍니다.
     @GetMapping
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = todoETagService.commentsETag(todoId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CursorResponse<CommentResponse> comments = commentService.getComments(todoId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (comments.isHasNext()) {
+            String next = UriComponentsBuilder.fromPath("/todos/{todoId}/comments/cursor")
+                    .queryParam("order", "asc")
+                    .queryParam("cursor", comments.getNextCursor())
+                    .buildAndExpand(todoId)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(comments.getContent());
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String order
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size, order));
     }
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+
+// 대량 삭제 시 카운터 보정을 위해 댓글 id 와 소속 일정 id 만 조회합니다.
+@Getter
+public class CommentTodoId {
+
+    private final Long commentId;
+    private final Long todoId;
+
+    public CommentTodoId(Long commentId, Long todoId) {
+        this.commentId = commentId;
+        this.todoId = todoId;
+    }
+}
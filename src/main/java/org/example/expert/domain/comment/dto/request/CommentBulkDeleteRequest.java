@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// commentIds, todoId, userId 중 하나만 지정해야 합니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 삭제할 수 있습니다.")
+    private List<Long> commentIds;
+    private Long todoId;
+    private Long userId; // 작성자 기준 삭제
+}
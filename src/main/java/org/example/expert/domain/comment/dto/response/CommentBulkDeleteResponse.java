@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBulkDeleteResponse {
+
+    private final int deletedCount;
+
+    public CommentBulkDeleteResponse(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
@@ -10,10 +10,14 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     private String contents;
 
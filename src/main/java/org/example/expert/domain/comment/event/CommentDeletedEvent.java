@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 한 일정에서 삭제된 댓글들입니다. 대량 삭제는 일정마다 하나씩 발행됩니다.
+@Getter
+public class CommentDeletedEvent {
+
+    private final Long todoId;
+    private final List<Long> commentIds;
+
+    public CommentDeletedEvent(Long todoId, List<Long> commentIds) {
+        this.todoId = todoId;
+        this.commentIds = commentIds;
+    }
+}
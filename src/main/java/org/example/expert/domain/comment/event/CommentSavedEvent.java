@@ -0,0 +1,17 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+// 댓글이 저장된 뒤 발행됩니다. 트랜잭션이 있으면 커밋 이후에 처리됩니다.
+@Getter
+public class CommentSavedEvent {
+
+    private final Long todoId;
+    private final CommentResponse comment;
+
+    public CommentSavedEvent(Long todoId, CommentResponse comment) {
+        this.todoId = todoId;
+        this.comment = comment;
+    }
+}
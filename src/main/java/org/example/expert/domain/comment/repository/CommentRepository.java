@@ -1,14 +1,78 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.comment.dto.CommentTodoId;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.search.dto.CommentDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // (todo_id, id) 인덱스를 따라 커서 이후의 댓글만 읽습니다. 첫 페이지는 0 을 커서로 사용합니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId AND c.id > :cursorId " +
+            "ORDER BY c.id ASC")
+    List<CommentResponse> findResponsesAfter(@Param("todoId") Long todoId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 최신순 조회입니다. 첫 페이지는 Long.MAX_VALUE 를 커서로 사용합니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId AND c.id < :cursorId " +
+            "ORDER BY c.id DESC")
+    List<CommentResponse> findResponsesBefore(@Param("todoId") Long todoId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    // 삭제된 행 수를 돌려주므로 동시에 같은 댓글을 지워도 카운터는 한 번만 줄어듭니다.
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteCommentById(@Param("commentId") Long commentId);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoId(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.id IN :commentIds")
+    List<CommentTodoId> findTodoIdsByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // 지울 행을 먼저 잠가 두면, 이 트랜잭션이 실제로 지우는 댓글만 돌려받습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoId(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.id IN :commentIds")
+    List<CommentTodoId> lockTodoIdsByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoId(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.todo.id = :todoId AND c.id > :lastId ORDER BY c.id")
+    List<CommentTodoId> findTodoIdsByTodoId(@Param("todoId") Long todoId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoId(c.id, c.todo.id) " +
+            "FROM Comment c WHERE c.user.id = :userId AND c.id > :lastId ORDER BY c.id")
+    List<CommentTodoId> findTodoIdsByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 엔티티를 읽지 않고 한 번의 DELETE 문으로 지웁니다.
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.search.dto.CommentDocument(c.id, c.todo.id, c.contents) " +
+            "FROM Comment c WHERE c.id > :lastId ORDER BY c.id ASC")
+    List<CommentDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -1,18 +1,85 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentTodoId;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.LongFunction;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final CommentBulkDeleter commentBulkDeleter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            if (commentRepository.deleteCommentById(commentId) > 0) {
+                todoRepository.adjustCommentCount(todoId, -1);
+                eventPublisher.publishEvent(new CommentDeletedEvent(todoId, List.of(commentId)));
+            }
+        });
+    }
+
+    // 삭제 대상 id 만 먼저 읽고 청크마다 별도 트랜잭션으로 지워, 대량 삭제 중에도 잠금을 오래 잡지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentBulkDeleteResponse deleteComments(CommentBulkDeleteRequest request) {
+        List<Long> commentIds = request.getCommentIds();
+        boolean byIds = commentIds != null && !commentIds.isEmpty();
+        int criteria = (byIds ? 1 : 0) + (request.getTodoId() != null ? 1 : 0) + (request.getUserId() != null ? 1 : 0);
+        if (criteria != 1) {
+            throw new InvalidRequestException("commentIds, todoId, userId 중 하나만 지정해야 합니다.");
+        }
+
+        if (byIds) {
+            int deleted = 0;
+            for (int from = 0; from < commentIds.size(); from += DELETE_CHUNK_SIZE) {
+                List<Long> chunk = commentIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, commentIds.size()));
+                deleted += deleteChunk(commentRepository.findTodoIdsByIdIn(chunk));
+            }
+            return new CommentBulkDeleteResponse(deleted);
+        }
+        if (request.getTodoId() != null) {
+            return new CommentBulkDeleteResponse(deleteAll(lastId ->
+                    commentRepository.findTodoIdsByTodoId(request.getTodoId(), lastId, PageRequest.of(0, DELETE_CHUNK_SIZE))));
+        }
+        return new CommentBulkDeleteResponse(deleteAll(lastId ->
+                commentRepository.findTodoIdsByUserId(request.getUserId(), lastId, PageRequest.of(0, DELETE_CHUNK_SIZE))));
+    }
+
+    private int deleteAll(LongFunction<List<CommentTodoId>> nextChunk) {
+        int deleted = 0;
+        long lastId = 0L;
+        List<CommentTodoId> chunk;
+        do {
+            chunk = nextChunk.apply(lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            deleted += deleteChunk(chunk);
+            lastId = chunk.get(chunk.size() - 1).getCommentId();
+        } while (chunk.size() == DELETE_CHUNK_SIZE);
+        return deleted;
+    }
+
+    private int deleteChunk(List<CommentTodoId> chunk) {
+        return chunk.isEmpty() ? 0 : commentBulkDeleter.deleteChunk(chunk);
     }
 }
@@ -0,0 +1,45 @@
+package org.example.expert.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentTodoId;
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 청크 하나를 하나의 짧은 트랜잭션에서 IN 조건 DELETE 한 번으로 지우고 일정별 댓글 카운터를 보정합니다.
+// 대상 행을 먼저 잠가 읽으므로 동시에 지워진 댓글은 빠지고, 카운터는 실제로 지운 행 수만큼만 줄어듭니다.
+@Component
+@RequiredArgsConstructor
+public class CommentBulkDeleter {
+
+    private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public int deleteChunk(List<CommentTodoId> comments) {
+        List<CommentTodoId> locked = commentRepository.lockTodoIdsByIdIn(
+                comments.stream().map(CommentTodoId::getCommentId).toList());
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        int deleted = commentRepository.deleteAllByIdIn(locked.stream().map(CommentTodoId::getCommentId).toList());
+
+        Map<Long, List<Long>> idsByTodo = locked.stream()
+                .collect(Collectors.groupingBy(CommentTodoId::getTodoId,
+                        Collectors.mapping(CommentTodoId::getCommentId, Collectors.toList())));
+        idsByTodo.forEach((todoId, ids) -> {
+            todoRepository.adjustCommentCount(todoId, -ids.size());
+            eventPublisher.publishEvent(new CommentDeletedEvent(todoId, ids));
+        });
+
+        return deleted;
+    }
+}
@@ -5,25 +5,32 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -38,6 +45,12 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.adjustCommentCount(todo.getId(), 1);
+        eventPublisher.publishEvent(new CommentSavedEvent(todo.getId(), new CommentResponse(
+                savedComment.getId(),
+                savedComment.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        )));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -46,20 +59,51 @@ public class CommentService {
         );
     }
 
+    // 전체 목록 대신 오래된 순 첫 페이지(최대 MAX_PAGE_SIZE 개)만 돌려줍니다. 나머지는 커서 API 로 이어서 읽습니다.
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    public CursorResponse<CommentResponse> getComments(long todoId) {
+        return getCommentsByCursor(todoId, null, MAX_PAGE_SIZE, "asc");
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size, String order) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        boolean ascending = parseOrder(order);
+        Long cursorId = parseCursor(cursor, ascending);
+
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 size + 1 개를 조회합니다.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentResponse> comments = ascending
+                ? commentRepository.findResponsesAfter(todoId, cursorId, limit)
+                : commentRepository.findResponsesBefore(todoId, cursorId, limit);
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> content = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    private boolean parseOrder(String order) {
+        if ("asc".equalsIgnoreCase(order)) {
+            return true;
+        }
+        if ("desc".equalsIgnoreCase(order)) {
+            return false;
+        }
+        throw new InvalidRequestException("order 는 asc 또는 desc 여야 합니다.");
+    }
+
+    private Long parseCursor(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return ascending ? 0L : Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
         }
-        return dtoList;
     }
 }
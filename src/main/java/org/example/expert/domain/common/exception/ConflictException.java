@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -10,8 +10,10 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoETagService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,6 +22,7 @@ import java.util.List;
 @RequestMapping("/todos/{todoId}/managers")
 public class ManagerController {
     private final ManagerService managerService;
+    private final TodoETagService todoETagService;
 
     @PostMapping
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -31,7 +34,11 @@ public class ManagerController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = todoETagService.managersETag(todoId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식으로 응답에 필요한 컬럼만 조회할 때 사용합니다.
+    public ManagerResponse(Long id, Long userId, String email) {
+        this(id, new UserResponse(userId, email));
+    }
 }
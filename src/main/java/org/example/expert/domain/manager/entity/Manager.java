@@ -9,10 +9,14 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_todo_id_id", columnList = "todo_id, id")
+})
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq_generator")
+    @SequenceGenerator(name = "manager_seq_generator", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,15 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+
+@Getter
+public class ManagerDeletedEvent {
+
+    private final Long todoId;
+    private final Long managerId;
+
+    public ManagerDeletedEvent(Long todoId, Long managerId) {
+        this.todoId = todoId;
+        this.managerId = managerId;
+    }
+}
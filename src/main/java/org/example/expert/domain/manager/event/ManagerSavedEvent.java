@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+
+// 담당자가 등록된 뒤 발행됩니다. 트랜잭션이 있으면 커밋 이후에 처리됩니다.
+@Getter
+public class ManagerSavedEvent {
+
+    private final Long todoId;
+    private final Long managerId;
+    private final Long userId;
+
+    public ManagerSavedEvent(Long todoId, Long managerId, Long userId) {
+        this.todoId = todoId;
+        this.managerId = managerId;
+        this.userId = userId;
+    }
+}
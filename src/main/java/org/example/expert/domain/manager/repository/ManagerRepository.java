@@ -1,13 +1,23 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u " +
+            "WHERE m.todo.id = :todoId " +
+            "ORDER BY m.id")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
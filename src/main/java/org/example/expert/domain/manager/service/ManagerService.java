@@ -7,17 +7,19 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagerDeletedEvent;
+import org.example.expert.domain.manager.event.ManagerSavedEvent;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -27,6 +29,7 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -48,6 +51,8 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.adjustManagerCount(todo.getId(), 1);
+        eventPublisher.publishEvent(new ManagerSavedEvent(todo.getId(), savedManagerUser.getId(), managerUser.getId()));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -57,20 +62,12 @@ public class ManagerService {
 
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        // 일정에는 작성자가 항상 담당자로 등록되므로, 결과가 비었을 때만 일정 존재 여부를 확인합니다.
+        List<ManagerResponse> managers = managerRepository.findResponsesByTodoId(todoId);
+        if (managers.isEmpty() && !todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
         }
-        return dtoList;
+        return managers;
     }
 
     @Transactional
@@ -92,5 +89,7 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.adjustManagerCount(todo.getId(), -1);
+        eventPublisher.publishEvent(new ManagerDeletedEvent(todo.getId(), manager.getId()));
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.dto.TodoSearchResponse;
+import org.example.expert.domain.search.service.TodoSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoSearchController {
+
+    private final TodoSearchService todoSearchService;
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<TodoSearchResponse> searchTodos(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoSearchService.search(query, page, size));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.search.dto;
+
+import lombok.Getter;
+
+// 검색 색인에 넣을 댓글 내용입니다. 검색 결과는 소속 일정 단위로 묶입니다.
+@Getter
+public class CommentDocument {
+
+    private final Long commentId;
+    private final Long todoId;
+    private final String contents;
+
+    public CommentDocument(Long commentId, Long todoId, String contents) {
+        this.commentId = commentId;
+        this.todoId = todoId;
+        this.contents = contents;
+    }
+}
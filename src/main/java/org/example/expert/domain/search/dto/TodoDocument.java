@@ -0,0 +1,18 @@
+package org.example.expert.domain.search.dto;
+
+import lombok.Getter;
+
+// 검색 색인에 넣을 일정 제목과 내용입니다.
+@Getter
+public class TodoDocument {
+
+    private final Long todoId;
+    private final String title;
+    private final String contents;
+
+    public TodoDocument(Long todoId, String title, String contents) {
+        this.todoId = todoId;
+        this.title = title;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.search.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoSearchHits {
+
+    private final List<Long> todoIds; // 관련도 순
+    private final boolean truncated; // 조회 한도에 걸려 뒤쪽 결과를 확인하지 못했으면 true
+
+    public TodoSearchHits(List<Long> todoIds, boolean truncated) {
+        this.todoIds = todoIds;
+        this.truncated = truncated;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.search.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoSearchResponse {
+
+    private final String query;
+    private final List<TodoResponse> content; // 관련도 순
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final boolean truncated; // true 이면 검색 한도를 넘는 뒤쪽 결과는 제공되지 않습니다.
+
+    public TodoSearchResponse(String query, List<TodoResponse> content, int page, int size, boolean hasNext, boolean truncated) {
+        this.query = query;
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.truncated = truncated;
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.expert.domain.search.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.search.dto.CommentDocument;
+import org.example.expert.domain.search.dto.TodoSearchHits;
+import org.example.expert.domain.search.dto.TodoDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 일정 제목/내용과 댓글 내용에 대한 내장 Lucene 역색인입니다.
+// 일정과 댓글은 각각 별도 문서로 색인되어 댓글 하나가 바뀌어도 그 문서만 갱신하며, 검색 결과는 일정 단위로 묶습니다.
+// 정상 종료 시에만 커밋에 clean 표시를 남기므로, 표시가 없으면 마지막 커밋 이후 변경을 잃었을 수 있어 다시 구축해야 합니다.
+@Component
+public class TodoSearchIndex {
+
+    private static final String UID = "uid";
+    private static final String TODO_ID = "todoId";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String COMMENT = "comment";
+    private static final String GENERATION = "generation";
+
+    private static final String STATE = "state";
+    private static final String CLEAN = "clean";
+    private static final String OPEN = "open";
+
+    private static final float TITLE_BOOST = 3f;
+    private static final float COMMENT_BOOST = 0.5f;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int MAX_SCANNED_DOCS = 10_000; // 한 번의 검색에서 일정 단위로 묶기 위해 읽는 최대 문서 수
+    private static final int MIN_BATCH_SIZE = 100;
+    private static final int COLLAPSE_FACTOR = 4; // 한 일정에 여러 댓글이 걸리는 경우를 감안해 더 많이 조회합니다.
+
+    // 비어 있으면 메모리에만 색인합니다.
+    @Value("${search.index.directory:}")
+    private String indexDirectory;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private boolean cleanlyClosed;
+
+    // 이 프로세스에서 색인한 문서에 붙입니다. 재구축이 끝나면 다른 값이 붙은 문서(이전 실행의 잔여분)를 지웁니다.
+    private final String generation = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = StringUtils.hasText(indexDirectory)
+                ? FSDirectory.open(Paths.get(indexDirectory))
+                : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        cleanlyClosed = isClean(writer.getLiveCommitData());
+
+        // 이후 커밋은 모두 open 으로 남기고, 비정상 종료에 대비해 바로 확정합니다.
+        writer.setLiveCommitData(Map.of(STATE, OPEN).entrySet());
+        writer.commit();
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.setLiveCommitData(Map.of(STATE, CLEAN).entrySet());
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+
+    // 처음 만든 색인이거나 지난번에 정상 종료되지 않았으면 DB 에서 다시 구축해야 합니다.
+    public boolean needsRebuild() {
+        return !cleanlyClosed || writer.getDocStats().numDocs == 0;
+    }
+
+    // 재구축을 마친 뒤 호출합니다. 그 사이 DB 에서 지워진 일정/댓글의 문서가 여기서 정리됩니다.
+    public void deleteStaleDocuments() throws IOException {
+        writer.deleteDocuments(new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(GENERATION, generation)), BooleanClause.Occur.MUST_NOT)
+                .build());
+    }
+
+    public void indexTodo(TodoDocument todo) throws IOException {
+        String uid = "todo:" + todo.getTodoId();
+        Document document = new Document();
+        document.add(new StringField(UID, uid, Field.Store.NO));
+        document.add(new StringField(TODO_ID, todo.getTodoId().toString(), Field.Store.YES));
+        document.add(new StringField(GENERATION, generation, Field.Store.NO));
+        document.add(new TextField(TITLE, nullToEmpty(todo.getTitle()), Field.Store.NO));
+        document.add(new TextField(CONTENTS, nullToEmpty(todo.getContents()), Field.Store.NO));
+        writer.updateDocument(new Term(UID, uid), document);
+    }
+
+    public void indexComment(CommentDocument comment) throws IOException {
+        String uid = "comment:" + comment.getCommentId();
+        Document document = new Document();
+        document.add(new StringField(UID, uid, Field.Store.NO));
+        document.add(new StringField(TODO_ID, comment.getTodoId().toString(), Field.Store.YES));
+        document.add(new StringField(GENERATION, generation, Field.Store.NO));
+        document.add(new TextField(COMMENT, nullToEmpty(comment.getContents()), Field.Store.NO));
+        writer.updateDocument(new Term(UID, uid), document);
+    }
+
+    // 일정 문서와 그 일정의 댓글 문서를 모두 지웁니다.
+    public void deleteTodo(Long todoId) throws IOException {
+        writer.deleteDocuments(new Term(TODO_ID, todoId.toString()));
+    }
+
+    public void deleteComments(List<Long> commentIds) throws IOException {
+        Term[] uids = commentIds.stream().map(id -> new Term(UID, "comment:" + id)).toArray(Term[]::new);
+        writer.deleteDocuments(uids);
+    }
+
+    // 관련도 순으로 일정 id 를 offset 부터 최대 limit 개 돌려줍니다.
+    // 일정 단위로 묶은 결과가 채워질 때까지 문서를 이어서 읽고, 읽기 한도에 걸리면 truncated 로 알립니다.
+    public TodoSearchHits search(String text, int offset, int limit) throws IOException {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return new TodoSearchHits(List.of(), false);
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            builder.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+            builder.add(new TermQuery(new Term(CONTENTS, term)), BooleanClause.Occur.SHOULD);
+            builder.add(new BoostQuery(new TermQuery(new Term(COMMENT, term)), COMMENT_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        Query query = builder.build();
+
+        int wanted = offset + limit;
+        int batchSize = Math.max(MIN_BATCH_SIZE, wanted * COLLAPSE_FACTOR);
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            StoredFields storedFields = searcher.storedFields();
+
+            // 같은 일정에 속한 문서는 가장 점수가 높은 첫 번째만 남깁니다.
+            Set<Long> todoIds = new LinkedHashSet<>();
+            ScoreDoc after = null;
+            int scanned = 0;
+            boolean truncated = false;
+            while (todoIds.size() < wanted) {
+                int batch = Math.min(batchSize, MAX_SCANNED_DOCS - scanned);
+                if (batch == 0) {
+                    truncated = true;
+                    break;
+                }
+                // 한 건을 더 읽어 뒤에 문서가 남았는지 확인합니다.
+                ScoreDoc[] scoreDocs = searcher.searchAfter(after, query, batch + 1).scoreDocs;
+                int read = Math.min(batch, scoreDocs.length);
+                for (int i = 0; i < read && todoIds.size() < wanted; i++) {
+                    todoIds.add(Long.parseLong(storedFields.document(scoreDocs[i].doc).get(TODO_ID)));
+                }
+                scanned += read;
+                if (scoreDocs.length <= batch) {
+                    break;
+                }
+                after = scoreDocs[batch - 1];
+            }
+            return new TodoSearchHits(todoIds.stream().skip(offset).limit(limit).toList(), truncated);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // 색인 변경을 검색에 반영합니다. 쓰기마다 새 리더를 열지 않도록 주기적으로 실행합니다.
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    // 색인을 디스크에 확정합니다. 비정상 종료 시에는 다음 기동에서 DB 로부터 다시 구축합니다.
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:10000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        if (!StringUtils.hasText(text)) {
+            return terms;
+        }
+        try (TokenStream tokenStream = analyzer.tokenStream(CONTENTS, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return terms;
+    }
+
+    private boolean isClean(Iterable<Map.Entry<String, String>> commitData) {
+        if (commitData == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (STATE.equals(entry.getKey())) {
+                return CLEAN.equals(entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.search.dto.CommentDocument;
+import org.example.expert.domain.search.dto.TodoDocument;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+
+// 일정/댓글 변경 이벤트를 커밋 이후에 색인에 반영합니다.
+// 색인 실패는 요청을 실패시키지 않고 로그만 남기며, 색인이 비었거나 정상 종료되지 않았으면 기동 시 DB 에서 다시 구축합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexer {
+
+    private static final int REINDEX_CHUNK_SIZE = 1000;
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        try {
+            todoSearchIndex.indexTodo(new TodoDocument(event.getTodoId(), event.getTitle(), event.getContents()));
+        } catch (IOException e) {
+            log.warn("일정 색인 실패 todoId={}", event.getTodoId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoDeleted(TodoDeletedEvent event) {
+        try {
+            todoSearchIndex.deleteTodo(event.getTodoId());
+        } catch (IOException e) {
+            log.warn("일정 색인 삭제 실패 todoId={}", event.getTodoId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentSaved(CommentSavedEvent event) {
+        try {
+            todoSearchIndex.indexComment(new CommentDocument(
+                    event.getComment().getId(), event.getTodoId(), event.getComment().getContents()));
+        } catch (IOException e) {
+            log.warn("댓글 색인 실패 commentId={}", event.getComment().getId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        try {
+            todoSearchIndex.deleteComments(event.getCommentIds());
+        } catch (IOException e) {
+            log.warn("댓글 색인 삭제 실패 todoId={}", event.getTodoId(), e);
+        }
+    }
+
+    // 기존 문서를 지우지 않고 덮어쓰므로 재구축 중에도 검색은 계속 동작합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        if (!todoSearchIndex.needsRebuild()) {
+            return;
+        }
+        try {
+            long todos = reindexTodos();
+            long comments = reindexComments();
+            todoSearchIndex.deleteStaleDocuments();
+            todoSearchIndex.commit();
+            todoSearchIndex.refresh();
+            log.info("검색 색인 재구축 완료 todos={} comments={}", todos, comments);
+        } catch (IOException e) {
+            log.error("검색 색인 재구축 실패", e);
+        }
+    }
+
+    private long reindexTodos() throws IOException {
+        long count = 0;
+        long lastId = 0L;
+        List<TodoDocument> chunk;
+        do {
+            chunk = todoRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, REINDEX_CHUNK_SIZE));
+            for (TodoDocument todo : chunk) {
+                todoSearchIndex.indexTodo(todo);
+                lastId = todo.getTodoId();
+            }
+            count += chunk.size();
+        } while (chunk.size() == REINDEX_CHUNK_SIZE);
+        return count;
+    }
+
+    private long reindexComments() throws IOException {
+        long count = 0;
+        long lastId = 0L;
+        List<CommentDocument> chunk;
+        do {
+            chunk = commentRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, REINDEX_CHUNK_SIZE));
+            for (CommentDocument comment : chunk) {
+                todoSearchIndex.indexComment(comment);
+                lastId = comment.getCommentId();
+            }
+            count += chunk.size();
+        } while (chunk.size() == REINDEX_CHUNK_SIZE);
+        return count;
+    }
+}
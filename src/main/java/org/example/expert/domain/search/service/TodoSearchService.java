@@ -0,0 +1,65 @@
+package org.example.expert.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.dto.TodoSearchHits;
+import org.example.expert.domain.search.dto.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TodoSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+
+    // 색인에서 관련도 순 일정 id 를 찾고, 응답은 IN 조회 한 번으로 만들어 색인 순서대로 정렬합니다.
+    // 색인 검색 동안 DB 커넥션을 잡지 않도록 트랜잭션은 마지막 IN 조회(리포지토리의 읽기 전용 트랜잭션)에만 둡니다.
+    public TodoSearchResponse search(String query, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidRequestException("검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        if (page < 1 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("page 는 1 이상, size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 size + 1 개를 조회합니다.
+        TodoSearchHits hits;
+        try {
+            hits = todoSearchIndex.search(query, (page - 1) * size, size + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Long> todoIds = hits.getTodoIds();
+        boolean hasNext = todoIds.size() > size;
+        List<Long> pageIds = hasNext ? todoIds.subList(0, size) : todoIds;
+        if (pageIds.isEmpty()) {
+            return new TodoSearchResponse(query, List.of(), page, size, false, hits.isTruncated());
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            rank.put(pageIds.get(i), i);
+        }
+        // 커밋 직후 아직 색인에서 빠지지 않은 삭제된 일정은 조회되지 않으므로 자연히 제외됩니다.
+        List<TodoResponse> content = todoRepository.findTodoResponsesByIdIn(pageIds).stream()
+                .filter(todo -> rank.containsKey(todo.getId()))
+                .sorted(Comparator.comparing(todo -> rank.get(todo.getId())))
+                .toList();
+
+        return new TodoSearchResponse(query, content, page, size, hasNext, hits.isTruncated());
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.subscription.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.StreamingPaths;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.subscription.service.TodoEventBroadcaster;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoEventController {
+
+    private final TodoEventBroadcaster todoEventBroadcaster;
+    private final TodoRepository todoRepository;
+
+    // 놓친 이벤트는 다시 보내지 않으므로 재연결한 클라이언트는 댓글/담당자 목록을 새로 조회합니다.
+    @GetMapping(value = StreamingPaths.TODO_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return todoEventBroadcaster.subscribe(todoId);
+    }
+}
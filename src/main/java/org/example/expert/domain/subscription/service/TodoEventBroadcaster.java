@@ -0,0 +1,266 @@
+package org.example.expert.domain.subscription.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.event.ManagerDeletedEvent;
+import org.example.expert.domain.manager.event.ManagerSavedEvent;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 일정별 댓글/담당자 변경을 SSE 구독자에게 전달합니다.
+// 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 구독자는 스레드를 차지하지 않습니다.
+// 이벤트는 커밋 이후 구독자별 버퍼에 넣기만 하고, 전송은 전용 스레드 풀이 구독자마다 하나씩 맡습니다.
+// 버퍼가 가득 찬 느린 구독자는 연결을 끊으며, 클라이언트는 다시 연결한 뒤 목록을 새로 조회합니다.
+// 전송 하나가 send-timeout 을 넘기면 그 구독자를 끊고, 막힌 쓰기가 소켓 쓰기 타임아웃으로 돌아올 때까지 전송 스레드를 하나 더 둡니다.
+// 멈춘 클라이언트가 전송 스레드를 모두 붙잡아 다른 구독자의 버퍼가 넘치는 일을 막기 위함입니다.
+@Slf4j
+@Component
+public class TodoEventBroadcaster {
+
+    private final Map<Long, Set<TodoStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    // 구독 목록에서는 빠졌지만 아직 전송 중일 수 있는 구독자입니다. 멈춘 전송 감시는 이들까지 살핍니다.
+    private final Set<TodoStreamSubscriber> detached = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventId = new AtomicLong();
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final int maxExtraSenderThreads;
+    private final ThreadPoolExecutor sender;
+    private int stalledSenders;
+    private int extraSenderThreads;
+
+    @Autowired
+    public TodoEventBroadcaster(
+            @Value("${todo.events.buffer-size:64}") int bufferSize,
+            @Value("${todo.events.timeout:30m}") Duration timeout,
+            @Value("${todo.events.max-subscribers:20000}") int maxSubscribers,
+            @Value("${todo.events.sender-threads:4}") int senderThreads,
+            @Value("${todo.events.send-timeout:5s}") Duration sendTimeout,
+            @Value("${todo.events.max-extra-sender-threads:32}") int maxExtraSenderThreads
+    ) {
+        // 대기열에는 구독자마다 최대 하나의 전송 작업만 들어가므로 구독자 수로 제한됩니다.
+        this(bufferSize, timeout, maxSubscribers, sendTimeout, maxExtraSenderThreads, new ThreadPoolExecutor(
+                senderThreads,
+                senderThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("todo-events-")
+        ));
+    }
+
+    TodoEventBroadcaster(int bufferSize, Duration timeout, int maxSubscribers, Duration sendTimeout,
+                         int maxExtraSenderThreads, ThreadPoolExecutor sender) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senderThreads = sender.getCorePoolSize();
+        this.maxExtraSenderThreads = maxExtraSenderThreads;
+        this.sender = sender;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(this::disconnect));
+        sender.shutdown();
+    }
+
+    public SseEmitter subscribe(Long todoId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = createEmitter();
+        TodoStreamSubscriber subscriber = new TodoStreamSubscriber(todoId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 비워진 집합이 맵에서 빠지는 remove 와 겹치지 않도록 키 단위로 추가합니다.
+        subscribers.compute(todoId, (id, set) -> {
+            Set<TodoStreamSubscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(subscriber);
+            return target;
+        });
+        // 응답 헤더를 바로 내보내 연결이 열렸음을 알립니다.
+        deliver(subscriber, TodoStreamMessage.heartbeat());
+        return emitter;
+    }
+
+    public int getSubscriberCount(Long todoId) {
+        Set<TodoStreamSubscriber> set = subscribers.get(todoId);
+        return set == null ? 0 : set.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentSaved(CommentSavedEvent event) {
+        publish(event.getTodoId(), "comment-saved", event.getComment());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        publish(event.getTodoId(), "comment-deleted", event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerSaved(ManagerSavedEvent event) {
+        publish(event.getTodoId(), "manager-saved", event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerDeleted(ManagerDeletedEvent event) {
+        publish(event.getTodoId(), "manager-deleted", event);
+    }
+
+    // 일정을 지우면 댓글/담당자도 일괄로 지워져 개별 삭제 이벤트가 없으므로, 삭제를 알린 뒤 그 일정의 연결을 모두 닫습니다.
+    // 구독 목록에서 먼저 빼 두어 이후 이벤트가 들어오지 않고, 연결은 버퍼에 남은 이벤트까지 보낸 뒤 닫힙니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoDeleted(TodoDeletedEvent event) {
+        Set<TodoStreamSubscriber> set = subscribers.remove(event.getTodoId());
+        if (set == null) {
+            return;
+        }
+        TodoStreamMessage message = TodoStreamMessage.lastEvent(eventId.incrementAndGet(), "todo-deleted", event);
+        set.forEach(subscriber -> {
+            // 동시에 끊기는 remove 와 한 번만 세도록 집합에서 빠진 쪽이 셉니다.
+            if (set.remove(subscriber)) {
+                detached.add(subscriber);
+                subscriberCount.decrementAndGet();
+                deliver(subscriber, message);
+            }
+        });
+    }
+
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주석 한 줄을 보냅니다.
+    @Scheduled(fixedDelayString = "${todo.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> deliver(subscriber, TodoStreamMessage.heartbeat())));
+    }
+
+    // 전송 하나가 send-timeout 을 넘기면 구독을 끊습니다. 막힌 쓰기는 중단할 수 없으므로 그동안 쓸 전송 스레드를 늘립니다.
+    @Scheduled(fixedDelayString = "${todo.events.send-check-interval-ms:1000}")
+    public void disconnectStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> disconnectIfStalled(subscriber, now)));
+        detached.forEach(subscriber -> disconnectIfStalled(subscriber, now));
+        // 끊긴 뒤에는 새 전송을 시작하지 않으므로 지금 전송 중이 아니면 더 볼 필요가 없습니다.
+        detached.removeIf(subscriber -> !subscriber.isSending());
+    }
+
+    private void disconnectIfStalled(TodoStreamSubscriber subscriber, long now) {
+        if (subscriber.markStalled(now, sendTimeoutNanos)) {
+            log.info("전송이 멈춘 SSE 구독자의 연결을 끊습니다. todoId : {}", subscriber.getTodoId());
+            remove(subscriber);
+            resizeSender(1);
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    void publish(Long todoId, String name, Object data) {
+        Set<TodoStreamSubscriber> set = subscribers.get(todoId);
+        if (set == null || set.isEmpty()) {
+            return;
+        }
+        TodoStreamMessage message = TodoStreamMessage.event(eventId.incrementAndGet(), name, data);
+        set.forEach(subscriber -> deliver(subscriber, message));
+    }
+
+    // 발행 스레드에서는 버퍼에 넣기만 하고 블로킹하지 않습니다.
+    private void deliver(TodoStreamSubscriber subscriber, TodoStreamMessage message) {
+        if (!subscriber.offer(message)) {
+            if (!subscriber.isClosed()) {
+                log.info("느린 SSE 구독자의 연결을 끊습니다. todoId : {}", subscriber.getTodoId());
+            }
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.startDrain()) {
+            execute(() -> {
+                if (subscriber.drain()) {
+                    return;
+                }
+                remove(subscriber);
+                if (subscriber.isStalled()) {
+                    // 멈췄던 쓰기가 끝나 돌아온 스레드입니다. 연결을 닫고 늘렸던 스레드를 되돌립니다.
+                    subscriber.getEmitter().complete();
+                    resizeSender(-1);
+                }
+            });
+        }
+    }
+
+    private void disconnect(TodoStreamSubscriber subscriber) {
+        remove(subscriber);
+        // 전송 중인 스레드와 겹치지 않도록 완료 처리도 전송 스레드에서 합니다.
+        // 이미 전송 중이면 그 스레드가 끝나면서 닫으므로, 막힌 전송 뒤에서 완료 작업이 스레드를 하나 더 붙잡지 않습니다.
+        if (subscriber.startClose()) {
+            execute(() -> subscriber.getEmitter().complete());
+        }
+    }
+
+    private void remove(TodoStreamSubscriber subscriber) {
+        subscriber.close();
+        Set<TodoStreamSubscriber> set = subscribers.get(subscriber.getTodoId());
+        if (set != null && set.remove(subscriber)) {
+            detached.add(subscriber);
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.getTodoId(), (id, current) -> current.isEmpty() ? null : current);
+        }
+    }
+
+    // 늘릴 때는 최대 크기를 먼저, 줄일 때는 기본 크기를 먼저 바꿔야 core <= max 가 유지됩니다.
+    // 늘린 스레드는 대기열에 쌓인 전송 작업을 바로 가져갑니다.
+    private synchronized void resizeSender(int delta) {
+        stalledSenders = Math.max(0, stalledSenders + delta);
+        int extra = Math.min(maxExtraSenderThreads, stalledSenders);
+        if (extra == extraSenderThreads) {
+            return;
+        }
+        int size = senderThreads + extra;
+        if (extra > extraSenderThreads) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+        extraSenderThreads = extra;
+    }
+
+    private void execute(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중입니다.
+        }
+    }
+}
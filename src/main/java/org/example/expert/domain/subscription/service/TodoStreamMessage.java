@@ -0,0 +1,49 @@
+package org.example.expert.domain.subscription.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 구독자 버퍼에 담기는 불변 메시지입니다. SseEventBuilder 는 한 번만 쓸 수 있으므로 보낼 때마다 새로 만듭니다.
+final class TodoStreamMessage {
+
+    private static final TodoStreamMessage HEARTBEAT = new TodoStreamMessage(null, null, null, false);
+
+    private final String id;
+    private final String name;
+    private final Object data;
+    private final boolean last;
+
+    private TodoStreamMessage(String id, String name, Object data, boolean last) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.last = last;
+    }
+
+    static TodoStreamMessage event(long id, String name, Object data) {
+        return new TodoStreamMessage(String.valueOf(id), name, data, false);
+    }
+
+    // 보낸 뒤 연결을 닫는 마지막 이벤트입니다.
+    static TodoStreamMessage lastEvent(long id, String name, Object data) {
+        return new TodoStreamMessage(String.valueOf(id), name, data, true);
+    }
+
+    static TodoStreamMessage heartbeat() {
+        return HEARTBEAT;
+    }
+
+    boolean isLast() {
+        return last;
+    }
+
+    SseEmitter.SseEventBuilder toSseEvent() {
+        if (this == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .id(id)
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+}
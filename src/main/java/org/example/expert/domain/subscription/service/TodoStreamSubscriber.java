@@ -0,0 +1,111 @@
+package org.example.expert.domain.subscription.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// SSE 연결 하나입니다. 발행 스레드는 버퍼에 넣기만 하고, 실제 전송은 전송 스레드에서 한 번에 하나씩 비웁니다.
+// 전송 하나가 시작된 시각을 기록해 두어, 제한 시간을 넘긴 전송은 감시 스레드가 멈춘 것으로 표시합니다.
+class TodoStreamSubscriber {
+
+    private static final int IDLE = 0;
+    private static final int SENDING = 1;
+    private static final int STALLED = 2;
+
+    private final Long todoId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<TodoStreamMessage> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger sendState = new AtomicInteger(IDLE);
+    private volatile long sendStartedNanos;
+    private volatile boolean closed;
+
+    TodoStreamSubscriber(Long todoId, SseEmitter emitter, int bufferSize) {
+        this.todoId = todoId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Long getTodoId() {
+        return todoId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // 버퍼가 가득 차면 false 를 돌려주며, 호출한 쪽은 느린 구독자로 보고 연결을 끊습니다.
+    boolean offer(TodoStreamMessage message) {
+        return !closed && buffer.offer(message);
+    }
+
+    // 이미 다른 스레드가 비우는 중이면 false 입니다.
+    boolean startDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    // startDrain 이 true 를 돌려준 뒤에만 호출합니다. 전송에 실패했거나 멈춘 것으로 표시되었으면 false 를 돌려줍니다.
+    boolean drain() {
+        do {
+            TodoStreamMessage message;
+            while (!closed && (message = buffer.poll()) != null) {
+                sendStartedNanos = System.nanoTime();
+                sendState.set(SENDING);
+                try {
+                    emitter.send(message.toSseEvent());
+                } catch (Exception e) {
+                    // 클라이언트가 연결을 끊었거나 이미 완료된 연결입니다.
+                    closed = true;
+                    return false;
+                } finally {
+                    sendState.compareAndSet(SENDING, IDLE);
+                }
+                if (isStalled()) {
+                    return false;
+                }
+                if (message.isLast()) {
+                    closed = true;
+                }
+            }
+            draining.set(false);
+            // 비우기를 끝낸 직후 들어온 메시지는 여기서 다시 이어받습니다.
+        } while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true));
+        // 전송 중에 끊겼으면 startClose 가 실패했으므로 연결 완료는 여기서 합니다.
+        if (closed && draining.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+        return true;
+    }
+
+    // 끊을 때 호출합니다. 전송 중이 아니면 true 를 돌려주며, 호출한 쪽이 연결을 완료합니다.
+    boolean startClose() {
+        return draining.compareAndSet(false, true);
+    }
+
+    // 전송 하나가 timeoutNanos 를 넘겨 진행 중이면 멈춘 것으로 표시하고 true 를 돌려줍니다. 구독자마다 한 번만 true 입니다.
+    boolean markStalled(long nowNanos, long timeoutNanos) {
+        return sendState.get() == SENDING
+                && nowNanos - sendStartedNanos > timeoutNanos
+                && sendState.compareAndSet(SENDING, STALLED);
+    }
+
+    boolean isSending() {
+        return sendState.get() == SENDING;
+    }
+
+    boolean isStalled() {
+        return sendState.get() == STALLED;
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+}
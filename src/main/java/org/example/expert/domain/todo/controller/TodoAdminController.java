@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.StreamingPaths;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TodoAdminService todoAdminService;
+
+    // 응답을 버퍼링하지 않고 바로 출력 스트림에 씁니다. customFilter 의 응답 캐싱 대상에서도 제외됩니다.
+    @GetMapping(StreamingPaths.TODO_EXPORT)
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        todoAdminService.exportTodos(response.getOutputStream());
+    }
+}
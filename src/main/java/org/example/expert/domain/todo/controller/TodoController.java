@@ -1,16 +1,34 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.CachedTodoResponse;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoVersionResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.example.expert.domain.todo.service.TodoResponseCache;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +36,8 @@ import org.springframework.web.bind.annotation.*;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoETagService todoETagService;
 
     @PostMapping
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -27,6 +47,14 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
     @GetMapping
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -35,8 +63,80 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // modifiedFrom 이상 modifiedTo 미만, 날짜는 ISO 형식(2024-01-01T00:00:00)입니다.
+    @GetMapping("/filter")
+    public ResponseEntity<CursorResponse<TodoResponse>> getFilteredTodos(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        TodoFilter filter = new TodoFilter(userId, weather, modifiedFrom, modifiedTo);
+        return ResponseEntity.ok(todoService.getFilteredTodos(filter, cursor, size));
+    }
+
+    // If-None-Match 가 일치하면 본문을 만들지 않고 304 를 돌려줍니다.
+    // 캐시된 JSON 바이트가 현재 버전이면 그대로 내려보내 조회와 직렬화를 모두 건너뜁니다.
+    // ETag 는 본문의 버전으로 만들므로 그 사이 변경이 있어도 본문과 어긋나지 않습니다.
+    // 먼저 읽은 버전의 ETag 가 응답 헤더에 남지 않도록 If-None-Match 는 요청만으로 검사합니다.
     @GetMapping("/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<byte[]> getTodo(@PathVariable long todoId, HttpServletRequest request) {
+        Long version = todoETagService.todoVersion(todoId);
+        if (version != null) {
+            String eTag = TodoETagService.todoETag(todoId, version);
+            if (new ServletWebRequest(request).checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        CachedTodoResponse response = todoResponseCache.get(todoId, version, () -> todoService.getTodoSnapshot(todoId));
+        return ResponseEntity.ok()
+                .eTag(TodoETagService.todoETag(todoId, response.getVersion()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getBody());
+    }
+
+    @GetMapping("/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoService.getTodoDetail(todoId));
+    }
+
+    @GetMapping("/{todoId}/version")
+    public ResponseEntity<TodoVersionResponse> getTodoVersion(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long version
+    ) {
+        return ResponseEntity.ok(todoService.getTodoVersion(todoId, version));
+    }
+
+    @PatchMapping("/{todoId}")
+    public ResponseEntity<TodoVersionResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        return ResponseEntity.ok(todoService.updateTodo(authUser, todoId, todoUpdateRequest));
+    }
+
+    @DeleteMapping("/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
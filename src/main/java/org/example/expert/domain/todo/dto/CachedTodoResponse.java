@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+// 직렬화된 일정 응답과 그 응답의 버전입니다. 버전으로 ETag 를 만들어 본문과 어긋나지 않게 합니다.
+@Getter
+public class CachedTodoResponse {
+
+    private final Long version;
+    private final byte[] body;
+
+    public CachedTodoResponse(Long version, byte[] body) {
+        this.version = version;
+        this.body = body;
+    }
+}
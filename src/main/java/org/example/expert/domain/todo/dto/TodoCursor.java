@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (modifiedAt, id) 위치를 클라이언트에게 불투명한 문자열로 전달하기 위한 커서입니다.
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long todoId;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long todoId) {
+        this.modifiedAt = modifiedAt;
+        this.todoId = todoId;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + todoId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
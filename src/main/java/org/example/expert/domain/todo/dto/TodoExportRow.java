@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내보내기용 일정 + 댓글 한 행입니다. 댓글이 없는 일정은 댓글 컬럼이 null 입니다.
+@Getter
+public class TodoExportRow {
+
+    private final Long todoId;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final String email;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final Long commentId;
+    private final String commentContents;
+    private final Long commentUserId;
+    private final String commentEmail;
+
+    public TodoExportRow(Long todoId, String title, String contents, String weather, Long userId, String email,
+                         LocalDateTime createdAt, LocalDateTime modifiedAt,
+                         Long commentId, String commentContents, Long commentUserId, String commentEmail) {
+        this.todoId = todoId;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.email = email;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.commentId = commentId;
+        this.commentContents = commentContents;
+        this.commentUserId = commentUserId;
+        this.commentEmail = commentEmail;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 필터 조건입니다. null 인 조건은 적용하지 않습니다.
+@Getter
+public class TodoFilter {
+
+    private final Long userId;
+    private final String weather;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+
+    public TodoFilter(Long userId, String weather, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        this.userId = userId;
+        this.weather = weather;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+    }
+}
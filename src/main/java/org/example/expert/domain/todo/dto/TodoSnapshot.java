@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.time.LocalDateTime;
+
+// 단일 일정 응답과 그 응답을 읽은 시점의 버전을 한 쿼리로 함께 담습니다. ETag 와 본문이 같은 행에서 나옵니다.
+@Getter
+public class TodoSnapshot {
+
+    private final TodoResponse todo;
+    private final Long version;
+
+    public TodoSnapshot(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount, Long version) {
+        this.todo = new TodoResponse(id, title, contents, weather, userId, email, createdAt, modifiedAt, commentCount, managerCount);
+        this.version = version;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+// 댓글/담당자 목록의 ETag 를 만들 때 필요한 컬럼만 담습니다. 본문은 읽지 않습니다.
+@Getter
+public class TodoValidator {
+
+    private final Long todoId;
+    private final int commentCount;
+    private final int managerCount;
+    private final Long lastCommentId;
+    private final Long lastManagerId;
+
+    public TodoValidator(Long todoId, int commentCount, int managerCount, Long lastCommentId, Long lastManagerId) {
+        this.todoId = todoId;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.lastCommentId = lastCommentId;
+        this.lastManagerId = lastManagerId;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 등록할 수 있습니다.")
+    private List<@Valid TodoSaveRequest> todos;
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    @NotBlank
+    private String title;
+    @NotBlank
+    private String contents;
+    // 클라이언트가 마지막으로 본 일정 버전입니다. 다르면 409 로 거절합니다.
+    @NotNull
+    private Long version;
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkItemResult {
+
+    private final int index; // 요청 목록에서의 위치
+    private final Long id;
+    private final boolean success;
+    private final String error;
+
+    private TodoBulkItemResult(int index, Long id, boolean success, String error) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static TodoBulkItemResult success(int index, Long id) {
+        return new TodoBulkItemResult(index, id, true, null);
+    }
+
+    public static TodoBulkItemResult failure(int index, String error) {
+        return new TodoBulkItemResult(index, null, false, error);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final String weather;
+    private final int succeeded;
+    private final int failed;
+    private final List<TodoBulkItemResult> results;
+
+    public TodoBulkSaveResponse(String weather, List<TodoBulkItemResult> results) {
+        this.weather = weather;
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(TodoBulkItemResult::isSuccess).count();
+        this.failed = results.size() - succeeded;
+    }
+}
@@ -15,8 +15,14 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final int commentCount;
+    private final int managerCount;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, 0, 0);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +30,12 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+    }
+
+    // JPQL 생성자 표현식으로 응답에 필요한 컬럼만 조회할 때 사용합니다.
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, commentCount, managerCount);
     }
 }
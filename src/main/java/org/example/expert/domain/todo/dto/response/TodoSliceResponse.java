@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoSliceResponse {
+
+    private final List<TodoResponse> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long approximateTotal; // 주기적으로 갱신되는 대략적인 전체 개수
+
+    public TodoSliceResponse(List<TodoResponse> content, int page, int size, boolean hasNext, Long approximateTotal) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.approximateTotal = approximateTotal;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoVersionResponse {
+
+    private final Long todoId;
+    private final Long version;
+    private final boolean changed; // 요청한 버전과 다르면 true
+
+    public TodoVersionResponse(Long todoId, Long version, boolean changed) {
+        this.todoId = todoId;
+        this.version = version;
+        this.changed = changed;
+    }
+}
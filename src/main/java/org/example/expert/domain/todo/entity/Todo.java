@@ -3,6 +3,9 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,20 +17,49 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt, id"),
+        // 필터 목록용: 동등 조건 컬럼 뒤에 정렬 키 (modifiedAt, id) 를 두어 정렬 없이 읽습니다.
+        @Index(name = "idx_todos_user_id_modified_at_id", columnList = "user_id, modifiedAt, id"),
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modifiedAt, id")
+})
+@Cacheable
+// HQL 벌크 UPDATE/DELETE 는 todo 영역 전체를 비우므로 카운터, 날씨, 삭제도 엔티티 단위로 변경해 해당 항목만 비웁니다.
+// 영역은 노드마다 따로 있고 노드 간 무효화가 없습니다. 쓰기 전 검증은 findByIdForUpdate 로 DB 의 최신 행을 읽습니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 배치를 막으므로 시퀀스로 id 를 50개씩 미리 할당합니다. MySQL 에서는 todos_seq 테이블로 동작합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq_generator")
+    @SequenceGenerator(name = "todo_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 목록에서 COUNT 없이 보여주기 위한 비정규화 카운터입니다. 행을 잠근 뒤에만 변경합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int managerCount;
+
+    // 제목/내용뿐 아니라 댓글/담당자 카운터, 날씨가 바뀔 때도 Hibernate 가 올립니다.
+    // 값이 같으면 일정과 그 하위 목록이 바뀌지 않은 것이므로 캐시/조건부 조회 검증에 씁니다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoService.deleteTodo 의 벌크 DELETE 로 처리하므로 행 단위 cascade 는 두지 않습니다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,5 +71,37 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
+    }
+
+    public void update(String title, String contents) {
+        this.title = title;
+        this.contents = contents;
+    }
+
+    public void adjustCommentCount(int delta) {
+        this.commentCount += delta;
+    }
+
+    public void adjustManagerCount(int delta) {
+        this.managerCount += delta;
+    }
+
+    // 이미 날씨가 채워진 일정은 덮어쓰지 않습니다.
+    public boolean fillPendingWeather(String weather) {
+        if (this.weather != null) {
+            return false;
+        }
+        this.weather = weather;
+        return true;
+    }
+
+    public boolean reconcileCounts(int commentCount, int managerCount) {
+        if (this.commentCount == commentCount && this.managerCount == managerCount) {
+            return false;
+        }
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        return true;
     }
 }
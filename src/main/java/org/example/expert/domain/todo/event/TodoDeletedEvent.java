@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+@Getter
+public class TodoDeletedEvent {
+
+    private final Long todoId;
+
+    public TodoDeletedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
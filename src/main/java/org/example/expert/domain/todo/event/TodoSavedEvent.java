@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+// 일정이 저장된 뒤 발행됩니다. 트랜잭션이 있으면 커밋 이후에 처리됩니다.
+@Getter
+public class TodoSavedEvent {
+
+    private final Long todoId;
+    private final String title;
+    private final String contents;
+
+    public TodoSavedEvent(Long todoId, String title, String contents) {
+        this.todoId = todoId;
+        this.title = title;
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+// 제목/내용 외의 값(날씨, 카운터 보정 등)이 바뀐 일정입니다. 검색 색인 대상이 아니므로 TodoSavedEvent 와 구분합니다.
+@Getter
+public class TodoUpdatedEvent {
+
+    private final Long todoId;
+
+    public TodoUpdatedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -1,24 +1,91 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.search.dto.TodoDocument;
+import org.example.expert.domain.todo.dto.TodoSnapshot;
+import org.example.expert.domain.todo.dto.TodoValidator;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API 는 엔티티 대신 응답에 필요한 컬럼만 DTO 로 바로 조회합니다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // Slice 반환 시 size + 1 개만 조회하고 COUNT 쿼리는 실행하지 않습니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    // 커서 페이지네이션: OFFSET, COUNT 없이 (modifiedAt, id) 인덱스를 따라 읽습니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstCursorPage(Pageable pageable);
+
+    // modifiedAt <= :modifiedAt 을 따로 두어 OR 조건이 있어도 인덱스 범위 탐색이 가능하게 합니다. (TodoRepositoryImpl 과 같은 조건)
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :todoId) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findCursorPageAfter(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("todoId") Long todoId,
+            Pageable pageable
+    );
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    // 단일 일정 응답 캐시의 적재용입니다. 노드마다 따로 있는 캐시를 거치지 않도록 항상 DB 에서 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSnapshot(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount, t.version) " +
+            "FROM Todo t JOIN t.user u WHERE t.id = :todoId")
+    Optional<TodoSnapshot> findSnapshotById(@Param("todoId") Long todoId);
+
+    @Query(TODO_RESPONSE + "WHERE t.id IN :todoIds")
+    List<TodoResponse> findTodoResponsesByIdIn(@Param("todoIds") List<Long> todoIds);
+
+    // 조건부 조회 검증용: 본문 없이 PK 와 (todo_id, id) 인덱스만 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoValidator(" +
+            "t.id, t.commentCount, t.managerCount, " +
+            "(SELECT MAX(c.id) FROM Comment c WHERE c.todo.id = t.id), " +
+            "(SELECT MAX(m.id) FROM Manager m WHERE m.todo.id = t.id)) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoValidator> findValidatorById(@Param("todoId") Long todoId);
+
+    @Query("SELECT t.version FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findVersionById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    List<Todo> findByWeatherIsNullAndIdGreaterThanOrderByIdAsc(Long lastTodoId, Pageable pageable);
+
+    // 검색 색인 재구축용: 색인에 필요한 컬럼만 id 순으로 끊어 읽습니다.
+    @Query("SELECT new org.example.expert.domain.search.dto.TodoDocument(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id ASC")
+    List<TodoDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // 실제 개수와 어긋난 카운터를 가진 일정을 id 구간 단위로 찾습니다.
+    @Query(value = "SELECT t.id FROM todos t " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "OR manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id))",
+            nativeQuery = true)
+    List<Long> findDriftedCounterIds(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TodoRepositoryCustom {
+
+    List<TodoResponse> findFilteredPage(TodoFilter filter, TodoCursor cursor, int limit);
+
+    Optional<Todo> findByIdForUpdate(Long todoId);
+
+    int adjustCommentCount(Long todoId, int delta);
+
+    int adjustManagerCount(Long todoId, int delta);
+
+    int updatePendingWeather(List<Long> todoIds, String weather);
+
+    int reconcileCounts(List<Long> todoIds);
+}
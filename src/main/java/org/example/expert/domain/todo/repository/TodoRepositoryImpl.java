@@ -0,0 +1,159 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // 주어진 조건만 WHERE 에 넣고 (modifiedAt, id) 역순 키셋으로 읽습니다.
+    // 작성자, 날씨 조건은 각각 (user_id, modifiedAt, id), (weather, modifiedAt, id) 인덱스를, 기간만 있으면 (modifiedAt, id) 인덱스를 탑니다.
+    @Override
+    public List<TodoResponse> findFilteredPage(TodoFilter filter, TodoCursor cursor, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TodoResponse> query = cb.createQuery(TodoResponse.class);
+        Root<Todo> todo = query.from(Todo.class);
+        Join<Todo, User> user = todo.join("user");
+        Path<LocalDateTime> modifiedAt = todo.get("modifiedAt");
+        Path<Long> id = todo.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getUserId() != null) {
+            predicates.add(cb.equal(todo.get("user").get("id"), filter.getUserId()));
+        }
+        if (filter.getWeather() != null) {
+            predicates.add(cb.equal(todo.get("weather"), filter.getWeather()));
+        }
+        if (filter.getModifiedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(modifiedAt, filter.getModifiedFrom()));
+        }
+        if (filter.getModifiedTo() != null) {
+            predicates.add(cb.lessThan(modifiedAt, filter.getModifiedTo()));
+        }
+        if (cursor != null) {
+            // modifiedAt <= :m 을 따로 두어 OR 조건이 있어도 인덱스 범위 탐색이 가능하게 합니다.
+            predicates.add(cb.lessThanOrEqualTo(modifiedAt, cursor.getModifiedAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(modifiedAt, cursor.getModifiedAt()),
+                    cb.lessThan(id, cursor.getTodoId())
+            ));
+        }
+
+        query.select(cb.construct(TodoResponse.class,
+                        id,
+                        todo.get("title"),
+                        todo.get("contents"),
+                        todo.get("weather"),
+                        user.get("id"),
+                        user.get("email"),
+                        todo.get("createdAt"),
+                        modifiedAt,
+                        todo.get("commentCount"),
+                        todo.get("managerCount")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(modifiedAt), cb.desc(id));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 2차 캐시에 남은 값이 아니라 DB 의 최신 행을 잠그고 읽습니다. 다른 노드의 변경도 여기서 반영됩니다.
+    @Override
+    public Optional<Todo> findByIdForUpdate(Long todoId) {
+        Todo todo = em.find(Todo.class, todoId);
+        if (todo == null) {
+            return Optional.empty();
+        }
+        try {
+            em.refresh(todo, LockModeType.PESSIMISTIC_WRITE);
+        } catch (EntityNotFoundException e) {
+            return Optional.empty();
+        }
+        return Optional.of(todo);
+    }
+
+    // 벌크 UPDATE 대신 행을 잠그고 엔티티로 변경해 2차 캐시에서 이 일정만 비웁니다.
+    // 같은 일정의 카운터 변경은 행 잠금으로 순서대로 반영되므로 유실되지 않습니다.
+    @Override
+    @Transactional
+    public int adjustCommentCount(Long todoId, int delta) {
+        return findByIdForUpdate(todoId)
+                .map(todo -> {
+                    todo.adjustCommentCount(delta);
+                    em.flush();
+                    return 1;
+                })
+                .orElse(0);
+    }
+
+    @Override
+    @Transactional
+    public int adjustManagerCount(Long todoId, int delta) {
+        return findByIdForUpdate(todoId)
+                .map(todo -> {
+                    todo.adjustManagerCount(delta);
+                    em.flush();
+                    return 1;
+                })
+                .orElse(0);
+    }
+
+    // 교착을 피하려고 항상 id 순으로 잠급니다.
+    @Override
+    @Transactional
+    public int updatePendingWeather(List<Long> todoIds, String weather) {
+        int updated = 0;
+        for (Long todoId : todoIds.stream().sorted().toList()) {
+            Optional<Todo> todo = findByIdForUpdate(todoId);
+            if (todo.isPresent() && todo.get().fillPendingWeather(weather)) {
+                updated++;
+            }
+        }
+        em.flush();
+        return updated;
+    }
+
+    // 잠근 뒤 실제 개수를 다시 세므로 그 사이 이미 맞춰진 일정은 건드리지 않습니다.
+    @Override
+    @Transactional
+    public int reconcileCounts(List<Long> todoIds) {
+        int reconciled = 0;
+        for (Long todoId : todoIds.stream().sorted().toList()) {
+            Optional<Todo> todo = findByIdForUpdate(todoId);
+            if (todo.isPresent() && todo.get().reconcileCounts(countChildren("Comment", todoId), countChildren("Manager", todoId))) {
+                reconciled++;
+            }
+        }
+        em.flush();
+        return reconciled;
+    }
+
+    private int countChildren(String entityName, Long todoId) {
+        return em.createQuery("SELECT COUNT(e) FROM " + entityName + " e WHERE e.todo.id = :todoId", Long.class)
+                .setParameter("todoId", todoId)
+                .getSingleResult()
+                .intValue();
+    }
+}
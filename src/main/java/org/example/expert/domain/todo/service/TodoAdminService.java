@@ -0,0 +1,98 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private static final String EXPORT_QUERY =
+            "SELECT new org.example.expert.domain.todo.dto.TodoExportRow(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, " +
+            "c.id, c.contents, cu.id, cu.email) " +
+            "FROM Todo t JOIN t.user u LEFT JOIN t.comments c LEFT JOIN c.user cu " +
+            "ORDER BY t.id, c.id";
+    private static final int CLEAR_INTERVAL = 1000;
+    private static final byte NEWLINE = '\n';
+
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+
+    // MySQL 은 Integer.MIN_VALUE 로 지정해야 결과를 메모리에 모두 올리지 않고 행 단위로 스트리밍합니다.
+    @Value("${todo.export.fetch-size:1000}")
+    private int fetchSize;
+
+    // 일정 하나당 댓글을 묶어 한 줄의 JSON 으로 씁니다. 메모리에는 현재 일정의 댓글만 유지됩니다.
+    @Transactional(readOnly = true)
+    public long exportTodos(OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream);
+        long exported = 0;
+        long rows = 0;
+
+        try (Stream<TodoExportRow> stream = em.createQuery(EXPORT_QUERY, TodoExportRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+
+            TodoExportRow current = null;
+            List<CommentResponse> comments = new ArrayList<>();
+            Iterator<TodoExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TodoExportRow row = iterator.next();
+                if (current != null && !current.getTodoId().equals(row.getTodoId())) {
+                    writeLine(out, current, comments);
+                    exported++;
+                    comments = new ArrayList<>();
+                }
+                current = row;
+                if (row.getCommentId() != null) {
+                    comments.add(new CommentResponse(row.getCommentId(), row.getCommentContents(),
+                            row.getCommentUserId(), row.getCommentEmail()));
+                }
+                // DTO 조회라 영속성 컨텍스트에 쌓이는 것은 없지만, 장시간 실행에 대비해 주기적으로 비웁니다.
+                if (++rows % CLEAR_INTERVAL == 0) {
+                    em.clear();
+                }
+            }
+            if (current != null) {
+                writeLine(out, current, comments);
+                exported++;
+            }
+        }
+        out.flush();
+        return exported;
+    }
+
+    private void writeLine(OutputStream out, TodoExportRow todo, List<CommentResponse> comments) throws IOException {
+        TodoExportResponse line = new TodoExportResponse(
+                todo.getTodoId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUserId(), todo.getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                comments
+        );
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write(NEWLINE);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 대량 등록 시 청크 하나를 하나의 트랜잭션으로 저장합니다. 일정과 작성자 담당자는 JDBC 배치로 INSERT 됩니다.
+@Component
+@RequiredArgsConstructor
+public class TodoBulkWriter {
+
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<Todo> saveChunk(List<Todo> todos) {
+        List<Todo> savedTodos = todoRepository.saveAll(todos);
+        savedTodos.forEach(todo ->
+                eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), todo.getTitle(), todo.getContents())));
+        return savedTodos;
+    }
+}
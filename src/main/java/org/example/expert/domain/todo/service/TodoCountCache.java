@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 목록 요청마다 COUNT 쿼리를 실행하지 않도록 전체 일정 수를 주기적으로만 갱신합니다.
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private final TodoRepository todoRepository;
+
+    private final AtomicReference<Long> approximateTotal = new AtomicReference<>();
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        approximateTotal.set(todoRepository.count());
+    }
+
+    // 아직 한 번도 갱신되지 않았다면 null 을 반환합니다.
+    public Long getApproximateTotal() {
+        return approximateTotal.get();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 댓글/담당자 카운터가 실제 개수와 어긋난 경우를 주기적으로 바로잡습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciler {
+
+    private static final long RANGE_SIZE = 1000L;
+
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번에 전체 테이블을 잠그지 않도록 id 구간마다 짧은 트랜잭션으로 나눠 처리합니다.
+    // 보정하면 버전이 오르므로 응답 캐시도 비워야 ETag 와 본문이 어긋나지 않습니다.
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int fixed = 0;
+        for (long fromId = 1L; fromId <= maxId; fromId += RANGE_SIZE) {
+            List<Long> todoIds = todoRepository.findDriftedCounterIds(fromId, fromId + RANGE_SIZE - 1);
+            if (todoIds.isEmpty()) {
+                continue;
+            }
+            fixed += todoRepository.reconcileCounts(todoIds);
+            todoIds.forEach(todoId -> eventPublisher.publishEvent(new TodoUpdatedEvent(todoId)));
+        }
+        if (fixed > 0) {
+            log.warn("일정 카운터 {}건을 실제 개수로 보정했습니다.", fixed);
+        }
+    }
+}
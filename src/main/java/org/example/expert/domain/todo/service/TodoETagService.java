@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoValidator;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+// 일정, 댓글 목록, 담당자 목록의 강한 ETag 를 PK 조회 한 번으로 만듭니다.
+// 댓글/담당자 목록은 다른 쪽 변경에 영향받지 않도록 개수와 마지막 id 로 추가와 삭제를 감지합니다.
+// 본문보다 먼저 계산하므로 그 사이에 변경이 생겨도 다음 요청에서 다시 내려받을 뿐 잘못된 304 는 나가지 않습니다.
+// 일정이 없으면 null 을 돌려주며, 호출하는 쪽은 평소처럼 조회해 404 성격의 예외를 내면 됩니다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoETagService {
+
+    private final TodoRepository todoRepository;
+
+    // 일정 응답의 모든 값(카운터, 날씨 포함)은 버전과 함께 바뀌므로 버전 컬럼만 읽습니다.
+    public Long todoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId).orElse(null);
+    }
+
+    public static String todoETag(long todoId, long version) {
+        return "\"" + todoId + "-" + version + "\"";
+    }
+
+    public String commentsETag(long todoId) {
+        return todoRepository.findValidatorById(todoId)
+                .map(v -> eTag("comments", v.getTodoId(), v.getCommentCount(), v.getLastCommentId()))
+                .orElse(null);
+    }
+
+    public String managersETag(long todoId) {
+        return todoRepository.findValidatorById(todoId)
+                .map(v -> eTag("managers", v.getTodoId(), v.getManagerCount(), v.getLastManagerId()))
+                .orElse(null);
+    }
+
+    private String eTag(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append('|');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
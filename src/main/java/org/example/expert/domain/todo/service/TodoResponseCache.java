@@ -0,0 +1,110 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.event.ManagerDeletedEvent;
+import org.example.expert.domain.manager.event.ManagerSavedEvent;
+import org.example.expert.domain.todo.dto.CachedTodoResponse;
+import org.example.expert.domain.todo.dto.TodoSnapshot;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// GET /todos/{todoId} 응답을 직렬화된 JSON 바이트와 버전으로 보관합니다. 바이트 수 기준으로 크기를 제한합니다.
+// 캐시는 노드마다 따로 있고 변경 이벤트는 이 노드에서 커밋된 것만 받으므로, 항목은 요청마다 DB 버전과 비교해 검증합니다.
+// 변경 이벤트로 지우는 것은 오래된 항목을 일찍 비우기 위한 것일 뿐 정합성은 버전 비교로 보장합니다.
+@Component
+public class TodoResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedTodoResponse> cache;
+
+    public TodoResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${todo.response-cache.max-size:16MB}") DataSize maxSize,
+            @Value("${todo.response-cache.ttl:10m}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long todoId, CachedTodoResponse response) -> response.getBody().length)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // version 은 호출하는 쪽이 DB 에서 읽은 현재 버전입니다. 항목의 버전이 다르거나 일정이 없으면(null) 다시 읽습니다.
+    // 다시 읽은 응답은 자신의 버전을 가지고 돌아가며, 동시에 적재되면 더 높은 버전만 남깁니다.
+    public CachedTodoResponse get(Long todoId, Long version, Supplier<TodoSnapshot> loader) {
+        CachedTodoResponse cached = cache.getIfPresent(todoId);
+        if (cached != null && cached.getVersion().equals(version)) {
+            return cached;
+        }
+
+        TodoSnapshot snapshot = loader.get();
+        CachedTodoResponse loaded = new CachedTodoResponse(snapshot.getVersion(), serialize(snapshot.getTodo()));
+        cache.asMap().merge(todoId, loaded,
+                (current, candidate) -> candidate.getVersion() > current.getVersion() ? candidate : current);
+        return loaded;
+    }
+
+    public void evict(Long todoId) {
+        cache.invalidate(todoId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoUpdated(TodoUpdatedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoDeleted(TodoDeletedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    // 응답의 commentCount, managerCount 가 바뀝니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentSaved(CommentSavedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerSaved(ManagerSavedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onManagerDeleted(ManagerDeletedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    private byte[] serialize(TodoResponse todoResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(todoResponse);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("일정 응답을 직렬화하지 못했습니다.");
+        }
+    }
+}
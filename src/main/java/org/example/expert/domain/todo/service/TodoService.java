@@ -2,34 +2,73 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.TodoSnapshot;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoVersionResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int BULK_CHUNK_SIZE = 200;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TodoBulkWriter todoBulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // true 이면 날씨 없이 먼저 저장하고 TodoWeatherEnricher 가 나중에 채웁니다.
+    @Value("${todo.weather.deferred:false}")
+    private boolean deferredWeather;
+
+    // 외부 날씨 API 를 호출하는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행합니다.
+    // 저장은 todoRepository.save 의 짧은 쓰기 트랜잭션 안에서 처리됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = deferredWeather ? null : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +77,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,36 +88,164 @@ public class TodoService {
         );
     }
 
+    // 날씨는 요청 전체에 대해 한 번만 조회하고, 청크마다 짧은 트랜잭션으로 나눠 저장합니다.
+    // 한 청크가 실패해도 나머지 청크는 계속 저장되며 항목별 결과로 알려줍니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> requests = todoBulkSaveRequest.getTodos();
+
+        String weather = deferredWeather ? null : weatherClient.getTodayWeather();
+
+        List<TodoBulkItemResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, requests.size());
+
+            List<Todo> chunk = new ArrayList<>(to - from);
+            for (TodoSaveRequest request : requests.subList(from, to)) {
+                chunk.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+            }
+
+            try {
+                List<Todo> savedTodos = todoBulkWriter.saveChunk(chunk);
+                for (int i = 0; i < savedTodos.size(); i++) {
+                    results.add(TodoBulkItemResult.success(from + i, savedTodos.get(i).getId()));
+                }
+            } catch (DataAccessException e) {
+                for (int i = from; i < to; i++) {
+                    results.add(TodoBulkItemResult.failure(i, "저장에 실패했습니다."));
+                }
+            }
+        }
+        return new TodoBulkSaveResponse(weather, results);
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findTodoResponses(pageable);
+    }
+
+    public TodoSliceResponse getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoResponse> todos = todoRepository.findTodoResponseSlice(pageable);
+
+        return new TodoSliceResponse(todos.getContent(), page, size, todos.hasNext(), todoCountCache.getApproximateTotal());
+    }
+
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 size + 1 개를 조회합니다.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstCursorPage(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findCursorPageAfter(todoCursor.getModifiedAt(), todoCursor.getTodoId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    public CursorResponse<TodoResponse> getFilteredTodos(TodoFilter filter, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (filter.getModifiedFrom() != null && filter.getModifiedTo() != null
+                && !filter.getModifiedFrom().isBefore(filter.getModifiedTo())) {
+            throw new InvalidRequestException("modifiedFrom 은 modifiedTo 보다 이전이어야 합니다.");
+        }
+
+        TodoCursor todoCursor = (cursor == null || cursor.isBlank()) ? null : TodoCursor.decode(cursor);
+        List<TodoResponse> todos = todoRepository.findFilteredPage(filter, todoCursor, size + 1);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content, nextCursor, hasNext);
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return todoRepository.findTodoResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    public TodoSnapshot getTodoSnapshot(long todoId) {
+        return todoRepository.findSnapshotById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 
-        User user = todo.getUser();
+    // 일정, 담당자, 댓글을 한 번에 내려줍니다. 쿼리는 DTO 조회 3번으로 고정됩니다.
+    public TodoDetailResponse getTodoDetail(long todoId) {
+        TodoResponse todo = getTodo(todoId);
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+        return new TodoDetailResponse(
+                todo,
+                managerRepository.findResponsesByTodoId(todoId),
+                commentRepository.findResponsesByTodoId(todoId)
         );
     }
+
+    // 버전 컬럼만 읽어 클라이언트가 가진 버전이 여전히 최신인지 알려줍니다.
+    public TodoVersionResponse getTodoVersion(long todoId, Long knownVersion) {
+        Long version = todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        return new TodoVersionResponse(todoId, version, !version.equals(knownVersion));
+    }
+
+    // 요청의 버전이 현재 버전과 다르면 거절합니다. 다른 노드의 2차 캐시 값과 비교하지 않도록 DB 의 행을 잠그고 읽습니다.
+    @Transactional
+    public TodoVersionResponse updateTodo(AuthUser authUser, long todoId, TodoUpdateRequest todoUpdateRequest) {
+        Todo todo = todoRepository.findByIdForUpdate(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+        if (!todo.getVersion().equals(todoUpdateRequest.getVersion())) {
+            throw new ConflictException("일정이 이미 변경되었습니다. 현재 버전: " + todo.getVersion());
+        }
+
+        todo.update(todoUpdateRequest.getTitle(), todoUpdateRequest.getContents());
+        todoRepository.flush();
+        eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), todo.getTitle(), todo.getContents()));
+
+        return new TodoVersionResponse(todo.getId(), todo.getVersion(), true);
+    }
+
+    // 댓글, 담당자는 각각 한 번의 DELETE 문으로 지웁니다.
+    // 일정은 엔티티로 지워 2차 캐시에서 이 일정만 비웁니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findByIdForUpdate(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        commentRepository.deleteAllByTodoId(todoId);
+        managerRepository.deleteAllByTodoId(todoId);
+        todoRepository.delete(todo);
+        eventPublisher.publishEvent(new TodoDeletedEvent(todoId));
+    }
 }
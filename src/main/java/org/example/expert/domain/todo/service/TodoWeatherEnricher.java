@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.weather.deferred", havingValue = "true")
+public class TodoWeatherEnricher {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 날씨가 비어 있는 일정을 배치 단위로 찾아 생성일의 날씨로 채웁니다.
+    @Scheduled(fixedDelayString = "${todo.weather.enrich-interval-ms:5000}")
+    public void enrichPendingWeather() {
+        long lastTodoId = 0L;
+        List<Todo> pendingTodos;
+        do {
+            pendingTodos = todoRepository.findByWeatherIsNullAndIdGreaterThanOrderByIdAsc(
+                    lastTodoId,
+                    PageRequest.of(0, BATCH_SIZE)
+            );
+            if (pendingTodos.isEmpty()) {
+                return;
+            }
+            enrich(pendingTodos);
+            lastTodoId = pendingTodos.get(pendingTodos.size() - 1).getId();
+        } while (pendingTodos.size() == BATCH_SIZE);
+    }
+
+    private void enrich(List<Todo> pendingTodos) {
+        Map<LocalDate, List<Long>> todoIdsByDate = new LinkedHashMap<>();
+        for (Todo todo : pendingTodos) {
+            LocalDate createdDate = todo.getCreatedAt() == null ? LocalDate.now() : todo.getCreatedAt().toLocalDate();
+            todoIdsByDate.computeIfAbsent(createdDate, date -> new ArrayList<>()).add(todo.getId());
+        }
+
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            try {
+                String weather = weatherClient.getWeather(entry.getKey());
+                todoRepository.updatePendingWeather(entry.getValue(), weather);
+                entry.getValue().forEach(todoId -> eventPublisher.publishEvent(new TodoUpdatedEvent(todoId)));
+            } catch (ServerException | RestClientException e) {
+                // 날씨를 가져오지 못한 일정은 다음 주기에 다시 시도합니다.
+                log.warn("날씨 데이터를 채우지 못했습니다. date : {}, message : {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+}
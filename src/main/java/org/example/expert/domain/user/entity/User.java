@@ -3,6 +3,8 @@ package org.example.expert.domain.user.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
@@ -11,9 +13,14 @@ import org.example.expert.domain.user.enums.UserRole;
 @Entity
 @NoArgsConstructor
 @Table(name = "users")
+@Cacheable
+// changePassword, updateRole 로 변경되면 커밋 시점에 캐시 항목도 함께 갱신됩니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+    @SequenceGenerator(name = "user_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     @Column(unique = true)
     private String email;
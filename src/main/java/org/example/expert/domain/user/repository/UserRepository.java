@@ -2,10 +2,30 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 대량 가져오기에서 이메일 중복을 청크 단위 한 번의 쿼리로 확인합니다.
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    List<User> findAllByEmailIn(Collection<String> emails);
+
+    // 해시를 확인한 뒤 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않습니다. 벌크 UPDATE 이므로 user 캐시 영역은 비워집니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,267 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 스텁 HTTP 서버로 지연과 장애를 주입해 WeatherClient 의 캐시, 타임아웃, 서킷 브레이커를 검증합니다.
+@RestClientTest
+@AutoConfigureMockRestServiceServer(enabled = false)
+class WeatherClientTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    private HttpServer stubServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis = 0;
+    private volatile String responseBody = "[]";
+
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        weatherClient = new WeatherClient(
+                restTemplateBuilder,
+                "http://localhost:" + stubServer.getAddress().getPort() + "/weather.json",
+                Duration.ofMillis(500),
+                Duration.ofMillis(300),
+                2,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 같은_날에는_날씨를_한_번만_불러온다() {
+        // given
+        responseBody = weatherJson(LocalDate.now(), "Sunny");
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+        assertEquals(1, weatherClient.getCacheHitCount());
+        assertEquals(1, weatherClient.getCacheMissCount());
+    }
+
+    @Test
+    void 동시에_요청해도_한_번만_불러온다() throws Exception {
+        // given
+        responseBody = weatherJson(LocalDate.now(), "Cloudy");
+        responseDelayMillis = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(weatherClient::getTodayWeather));
+        }
+        for (Future<String> result : results) {
+            assertEquals("Cloudy", result.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, requestCount.get());
+        assertEquals(1, weatherClient.getCacheMissCount());
+    }
+
+    @Test
+    void 자정이_지나면_다시_불러온다() {
+        // given
+        LocalDate today = LocalDate.now();
+        responseBody = weatherJson(today, "Sunny", today.plusDays(1), "Rainy");
+        weatherClient.getTodayWeather();
+        ReflectionTestUtils.setField(weatherClient, "clock", clockAt(today.plusDays(1)));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 응답이_느리면_타임아웃으로_빠르게_실패한다() {
+        // given
+        responseBody = weatherJson(LocalDate.now(), "Sunny");
+        responseDelayMillis = 3_000;
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertTrue(elapsedMillis < 2_000);
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열려_호출하지_않는다() {
+        // given
+        responseStatus = 500;
+
+        // when
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertTrue(weatherClient.isCircuitOpen());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 장애_시_마지막으로_성공한_날씨로_응답한다() {
+        // given
+        LocalDate today = LocalDate.now();
+        responseBody = weatherJson(today, "Sunny", today.plusDays(1), "Rainy");
+        weatherClient.getTodayWeather();
+        responseStatus = 500;
+        ReflectionTestUtils.setField(weatherClient, "clock", clockAt(today.plusDays(1)));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+    }
+
+    @Test
+    void 장애_중에는_마지막_데이터를_잠시_캐시하고_재시도_간격이_지나면_다시_불러온다() {
+        // given
+        LocalDate today = LocalDate.now();
+        responseBody = weatherJson(today, "Sunny", today.plusDays(1), "Rainy");
+        weatherClient.getTodayWeather();
+        responseStatus = 500;
+        Clock tomorrow = clockAt(today.plusDays(1));
+        ReflectionTestUtils.setField(weatherClient, "clock", tomorrow);
+
+        // when
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+        int requestsWhileStale = requestCount.get();
+        ReflectionTestUtils.setField(weatherClient, "clock", Clock.offset(tomorrow, Duration.ofMinutes(2)));
+        weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(2, requestsWhileStale);
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    void 불러오는_중_Error_가_나도_기다리던_요청은_멈추지_않는다() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch failLoad = new CountDownLatch(1);
+        WeatherClient failingClient = new WeatherClient(
+                restTemplateBuilder.additionalInterceptors((request, body, execution) -> {
+                    loadStarted.countDown();
+                    try {
+                        failLoad.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new Error("load failed");
+                }),
+                "http://localhost:" + stubServer.getAddress().getPort() + "/weather.json",
+                Duration.ofMillis(500),
+                Duration.ofMillis(300),
+                2,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> loader = executor.submit(failingClient::getTodayWeather);
+        assertTrue(loadStarted.await(1, TimeUnit.SECONDS));
+        Future<String> waiter = executor.submit(failingClient::getTodayWeather);
+        Thread.sleep(50);
+        failLoad.countDown();
+
+        // then
+        ExecutionException loaderFailure = assertThrows(ExecutionException.class, () -> loader.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(Error.class, loaderFailure.getCause());
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ServerException.class, waiterFailure.getCause());
+        executor.shutdown();
+    }
+
+    private Clock clockAt(LocalDate date) {
+        ZoneId zone = ZoneId.systemDefault();
+        return Clock.fixed(date.atStartOfDay(zone).toInstant(), zone);
+    }
+
+    private String weatherJson(Object... dateAndWeather) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < dateAndWeather.length; i += 2) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String date = ((LocalDate) dateAndWeather[i]).format(DATE_FORMATTER);
+            json.append("{\"date\":\"").append(date).append("\",\"weather\":\"").append(dateAndWeather[i + 1]).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+}
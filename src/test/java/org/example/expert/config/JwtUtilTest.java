@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        String secretKey = Base64.getEncoder()
+                .encodeToString("test-secret-key-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 같은_토큰은_두번째부터_캐시에서_조회된다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "qwer@1234", UserRole.USER));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", first.getSubject());
+        assertEquals("qwer@1234", second.get("email", String.class));
+        assertEquals(1, jwtUtil.getCacheMissCount());
+        assertEquals(1, jwtUtil.getCacheHitCount());
+    }
+
+    @Test
+    void 캐시된_토큰을_변조하면_서명_검증에_실패한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "qwer@1234", UserRole.USER));
+        jwtUtil.extractClaims(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThrows(Exception.class, () -> jwtUtil.extractClaims(tampered));
+        assertEquals(0, jwtUtil.getCacheHitCount());
+    }
+}
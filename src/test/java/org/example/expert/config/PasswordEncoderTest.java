@@ -1,18 +1,34 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        ReflectionTestUtils.setField(passwordEncoder, "queueCapacity", 16);
+        ReflectionTestUtils.setField(passwordEncoder, "cost", BCrypt.MIN_COST);
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -25,4 +41,65 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 해싱_작업을_받을_수_없으면_503_예외가_발생한다() {
+        // given
+        passwordEncoder.shutdown();
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("testPassword"));
+    }
+
+    @Test
+    void 여러_비밀번호를_한_번에_해싱하면_순서대로_반환한다() {
+        // given
+        List<String> rawPasswords = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rawPasswords.add("password" + i);
+        }
+
+        // when
+        List<String> encoded = passwordEncoder.encodeAll(rawPasswords);
+
+        // then
+        assertEquals(40, encoded.size());
+        assertTrue(passwordEncoder.matches("password0", encoded.get(0)));
+        assertTrue(passwordEncoder.matches("password39", encoded.get(39)));
+    }
+
+    @Test
+    void 대량_해싱은_작업이_거절되어도_호출_스레드에서_처리한다() {
+        // given
+        passwordEncoder.shutdown();
+
+        // when
+        List<String> encoded = passwordEncoder.encodeAll(List.of("testPassword"));
+
+        // then
+        assertTrue(BCrypt.verifyer().verify("testPassword".toCharArray(), encoded.get(0)).verified);
+    }
+
+    @Test
+    void cost가_다른_해시는_재해싱_대상이다() {
+        // given
+        String currentHash = passwordEncoder.encode("testPassword");
+        String olderHash = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST + 1, "testPassword".toCharArray());
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(currentHash));
+        assertTrue(passwordEncoder.needsRehash(olderHash));
+    }
+
+    @Test
+    void 목표_시간_안에서_cost를_측정한다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "targetMillis", 0L);
+
+        // when
+        int calibratedCost = passwordEncoder.calibrateCost();
+
+        // then
+        assertEquals(BCrypt.MIN_COST, calibratedCost);
+    }
 }
@@ -23,6 +23,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -97,6 +99,30 @@ class AuthServiceTest {
         // then
         assertNotNull(result);
         assertEquals(bearerToken, result.getBearerToken());
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void signin_성공시_cost가_다른_해시는_재해싱된다() {
+        // given
+        String email = "qwer@1234";
+        String password = "password";
+        String encodedPassword = "encodedPassword";
+        String rehashedPassword = "rehashedPassword";
+        UserRole userRole = UserRole.USER;
+        User user = new User(email, encodedPassword, userRole);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        SigninRequest request = new SigninRequest(email, password);
+
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(passwordEncoder.needsRehash(encodedPassword)).willReturn(true);
+        given(passwordEncoder.encode(password)).willReturn(rehashedPassword);
+        given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("bearerToken");
+        // when
+        authService.signin(request);
+        // then
+        verify(userRepository).updatePasswordIfUnchanged(1L, encodedPassword, rehashedPassword);
     }
 
     @Test
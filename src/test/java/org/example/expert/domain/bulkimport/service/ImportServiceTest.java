@@ -0,0 +1,152 @@
+package org.example.expert.domain.bulkimport.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.bulkimport.dto.response.ImportResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoBulkWriter;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@Import({ImportService.class, UserImportWriter.class, TodoBulkWriter.class, PasswordEncoder.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImportServiceTest {
+
+    @TempDir
+    Path importDirectory;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "importDirectory", importDirectory.toString());
+    }
+
+    @Test
+    void CSV_사용자_가져오기는_중복과_잘못된_행을_걸러내고_끝나면_체크포인트를_지운다() throws Exception {
+        // given
+        userRepository.save(new User("existing@import.com", "password", UserRole.USER));
+        Files.writeString(importDirectory.resolve("users.csv"), String.join("\n",
+                "email,password,userRole",
+                "user1@import.com,password1,USER",
+                "\"user2@import.com\",\"pass,word2\",ADMIN",
+                "user1@import.com,password1,USER",
+                "existing@import.com,password,USER",
+                "invalid-email,password,USER",
+                ""));
+
+        // when
+        ImportResponse response = importService.importUsers("users.csv");
+
+        // then
+        assertEquals(5, response.getProcessed());
+        assertEquals(2, response.getImported());
+        assertEquals(2, response.getSkipped());
+        assertEquals(1, response.getFailed());
+
+        User user2 = userRepository.findByEmail("user2@import.com").orElseThrow();
+        assertEquals(UserRole.ADMIN, user2.getUserRole());
+        assertTrue(passwordEncoder.matches("pass,word2", user2.getPassword()));
+        assertFalse(Files.exists(importDirectory.resolve("users.csv.checkpoint")));
+    }
+
+    @Test
+    void 체크포인트가_있으면_이어서_가져온다() throws Exception {
+        // given
+        Files.writeString(importDirectory.resolve("resume.ndjson"), String.join("\n",
+                "{\"email\":\"resume1@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}",
+                "{\"email\":\"resume2@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}",
+                "{\"email\":\"resume3@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}"));
+        ImportCheckpoint.of(importDirectory.resolve("resume.ndjson")).write(2);
+
+        // when
+        ImportResponse response = importService.importUsers("resume.ndjson");
+
+        // then
+        assertEquals(2, response.getResumedFrom());
+        assertEquals(1, response.getImported());
+        assertFalse(userRepository.existsByEmail("resume1@import.com"));
+        assertTrue(userRepository.existsByEmail("resume3@import.com"));
+        assertFalse(Files.exists(importDirectory.resolve("resume.ndjson.checkpoint")));
+    }
+
+    @Test
+    void 같은_이름의_다른_파일이면_체크포인트를_무시하고_처음부터_가져온다() throws Exception {
+        // given
+        Path file = importDirectory.resolve("replaced.ndjson");
+        Files.writeString(file, "{\"email\":\"old@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}");
+        ImportCheckpoint.of(file).write(1);
+        Files.writeString(file, String.join("\n",
+                "{\"email\":\"new1@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}",
+                "{\"email\":\"new2@import.com\",\"password\":\"password\",\"userRole\":\"USER\"}"));
+
+        // when
+        ImportResponse response = importService.importUsers("replaced.ndjson");
+
+        // then
+        assertEquals(0, response.getResumedFrom());
+        assertEquals(2, response.getImported());
+        assertTrue(userRepository.existsByEmail("new1@import.com"));
+    }
+
+    @Test
+    void 일정_가져오기는_작성자를_찾지_못한_행을_실패로_센다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("owner@import.com", "password", UserRole.USER));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        Files.writeString(importDirectory.resolve("todos.ndjson"), String.join("\n",
+                "{\"email\":\"owner@import.com\",\"title\":\"title1\",\"contents\":\"contents1\"}",
+                "{\"email\":\"owner@import.com\",\"title\":\"title2\",\"contents\":\"contents2\"}",
+                "{\"email\":\"nobody@import.com\",\"title\":\"title3\",\"contents\":\"contents3\"}",
+                "not json"));
+
+        // when
+        ImportResponse response = importService.importTodos("todos.ndjson");
+
+        // then
+        assertEquals(2, response.getImported());
+        assertEquals(2, response.getFailed());
+        Integer todoCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM todos WHERE user_id = ? AND weather = 'Sunny'", Integer.class, owner.getId());
+        assertEquals(2, todoCount);
+    }
+
+    @Test
+    void 가져오기_디렉터리_밖의_파일은_거부한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> importService.importUsers("../outside.csv"));
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.domain.cache.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.cache.dto.response.CacheRegionResponse;
+import org.example.expert.domain.cache.dto.response.CacheStatisticsResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 각 호출을 따로 커밋합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserAdminService.class, CacheStatisticsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 사용자_조회는_캐시에서_읽고_권한_변경이_캐시에_반영된다() {
+        // given
+        User user = userRepository.save(new User("role@cache.com", "password", UserRole.USER));
+        statistics.clear();
+
+        // when
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+        userAdminService.changeUserRole(user.getId(), new UserRoleChangeRequest("ADMIN"));
+        statistics.clear();
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+
+        // then
+        assertEquals(UserRole.USER, cached.getUserRole());
+        assertEquals(UserRole.ADMIN, updated.getUserRole());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 날씨를_채우면_그_일정만_캐시에서_비워지고_다른_일정은_캐시에서_읽는다() {
+        // given
+        User user = userRepository.save(new User("todo@cache.com", "password", UserRole.USER));
+        Todo pending = todoRepository.save(new Todo("title", "contents", null, user));
+        Todo other = todoRepository.save(new Todo("title", "contents", "Cloudy", user));
+        todoRepository.findById(pending.getId()).orElseThrow();
+        todoRepository.findById(other.getId()).orElseThrow();
+
+        // when
+        todoRepository.updatePendingWeather(List.of(pending.getId()), "Sunny");
+        statistics.clear();
+        Todo reloaded = todoRepository.findById(pending.getId()).orElseThrow();
+        todoRepository.findById(other.getId()).orElseThrow();
+
+        // then
+        assertEquals("Sunny", reloaded.getWeather());
+        assertEquals(pending.getVersion() + 1, reloaded.getVersion());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    void 카운터_변경은_다른_일정의_캐시를_비우지_않고_통계로_노출된다() {
+        // given
+        User user = userRepository.save(new User("counter@cache.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        Todo other = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        todoRepository.findById(other.getId()).orElseThrow();
+
+        // when
+        todoRepository.adjustCommentCount(todo.getId(), 1);
+        cacheStatisticsService.clearStatistics();
+        todoRepository.findById(other.getId()).orElseThrow();
+        Todo adjusted = todoRepository.findById(todo.getId()).orElseThrow();
+
+        // then
+        assertEquals(1, adjusted.getCommentCount());
+        CacheStatisticsResponse response = cacheStatisticsService.getStatistics();
+        assertTrue(response.isStatisticsEnabled());
+        CacheRegionResponse todoRegion = response.getRegions().stream()
+                .filter(region -> region.getRegion().endsWith("todo"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, todoRegion.getHitCount());
+        assertEquals(1, todoRegion.getMissCount());
+    }
+}
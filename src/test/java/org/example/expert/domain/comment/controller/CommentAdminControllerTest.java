@@ -1,15 +1,24 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentAdminController.class)
@@ -17,6 +26,9 @@ class CommentAdminControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private CommentAdminService commentAdminService;
 
@@ -30,4 +42,19 @@ class CommentAdminControllerTest {
         mockMvc.perform(delete("/admin/comments/{commentId}", commentId))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 댓글_대량_삭제_성공() throws Exception {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(List.of(1L, 2L), null, null);
+        given(commentAdminService.deleteComments(any(CommentBulkDeleteRequest.class)))
+                .willReturn(new CommentBulkDeleteResponse(2));
+
+        // when & then
+        mockMvc.perform(delete("/admin/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+    }
+}
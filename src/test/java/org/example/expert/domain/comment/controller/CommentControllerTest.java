@@ -6,10 +6,12 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -25,8 +27,11 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +45,8 @@ class CommentControllerTest {
 
     @MockBean
     private CommentService commentService;
+    @MockBean
+    private TodoETagService todoETagService;
 
     @Test
     void 댓글_저장_성공() throws Exception{
@@ -104,7 +111,7 @@ class CommentControllerTest {
                 new UserResponse(user.getId(), user.getEmail())
         );
         List<CommentResponse> list = List.of(response1, response2);
-        given(commentService.getComments(anyLong())).willReturn(list);
+        given(commentService.getComments(anyLong())).willReturn(new CursorResponse<>(list, null, false));
 
         // when & then
         mockMvc.perform(get("/todos/{todoId}/comments", todoId)
@@ -117,7 +124,53 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[1].contents").value("contents2"))
                 .andExpect(jsonPath("$[1].user.email").value("qwer@1234")
-                );
+                )
+                .andExpect(header().doesNotExist("Link"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void 댓글이_더_있으면_커서_API_의_다음_페이지를_Link_헤더로_알려준다() throws Exception {
+        // given
+        long todoId = 1L;
+        CommentResponse response = new CommentResponse(100L, "contents100", 1L, "qwer@1234");
+        given(commentService.getComments(todoId)).willReturn(new CursorResponse<>(List.of(response), "100", true));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(100L))
+                .andExpect(header().string("Link", "</todos/1/comments/cursor?order=asc&cursor=100>; rel=\"next\""));
+    }
+
+    @Test
+    void 댓글_목록_ETag_가_같으면_조회하지_않고_304_를_돌려준다() throws Exception {
+        // given
+        long todoId = 1L;
+        given(todoETagService.commentsETag(todoId)).willReturn("\"abc\"");
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                        .header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc\""));
+        verify(commentService, never()).getComments(anyLong());
+    }
+
+    @Test
+    void 댓글_커서_목록_조회() throws Exception {
+        // given
+        long todoId = 1L;
+        CommentResponse response = new CommentResponse(5L, "contents5", 1L, "qwer@1234");
+        given(commentService.getCommentsByCursor(todoId, "6", 1, "desc"))
+                .willReturn(new CursorResponse<>(List.of(response), "5", true));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments/cursor", todoId)
+                        .param("cursor", "6")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5L))
+                .andExpect(jsonPath("$.nextCursor").value("5"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+}
@@ -1,13 +1,29 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.CommentTodoId;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -15,6 +31,15 @@ class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private CommentBulkDeleter commentBulkDeleter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -22,20 +47,89 @@ class CommentAdminServiceTest {
     void 삭제_성공() {
         // given
         long commentId = 1L;
-        doNothing().when(commentRepository).deleteById(commentId);
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+        given(commentRepository.deleteCommentById(commentId)).willReturn(1);
         // when
         commentAdminService.deleteComment(commentId);
 
         // then
-        verify(commentRepository, times(1)).deleteById((commentId));
+        verify(commentRepository, times(1)).deleteCommentById((commentId));
+        verify(todoRepository, times(1)).adjustCommentCount(todoId, -1);
     }
 
     @Test
     void 삭제_실패() {
         // given
         long commentId = 1L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.empty());
 
         // when & then
         assertDoesNotThrow(() -> commentAdminService.deleteComment(commentId));
+        verify(todoRepository, never()).adjustCommentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void 동시에_이미_삭제된_댓글이면_카운터를_줄이지_않는다() {
+        // given
+        long commentId = 1L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(10L));
+        given(commentRepository.deleteCommentById(commentId)).willReturn(0);
+
+        // when
+        commentAdminService.deleteComment(commentId);
+
+        // then
+        verify(todoRepository, never()).adjustCommentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void id_목록으로_대량_삭제한다() {
+        // given
+        List<Long> commentIds = List.of(1L, 2L, 3L);
+        List<CommentTodoId> targets = List.of(
+                new CommentTodoId(1L, 10L),
+                new CommentTodoId(2L, 10L),
+                new CommentTodoId(3L, 20L)
+        );
+        given(commentRepository.findTodoIdsByIdIn(commentIds)).willReturn(targets);
+        given(commentBulkDeleter.deleteChunk(targets)).willReturn(3);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(new CommentBulkDeleteRequest(commentIds, null, null));
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+    }
+
+    @Test
+    void 작성자_기준_대량_삭제는_청크_단위로_나눠_처리한다() {
+        // given
+        long userId = 7L;
+        List<CommentTodoId> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            firstChunk.add(new CommentTodoId(id, 10L));
+        }
+        List<CommentTodoId> secondChunk = List.of(new CommentTodoId(501L, 20L));
+        given(commentRepository.findTodoIdsByUserId(eq(userId), eq(0L), any())).willReturn(firstChunk);
+        given(commentRepository.findTodoIdsByUserId(eq(userId), eq(500L), any())).willReturn(secondChunk);
+        given(commentBulkDeleter.deleteChunk(firstChunk)).willReturn(500);
+        given(commentBulkDeleter.deleteChunk(secondChunk)).willReturn(1);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.deleteComments(new CommentBulkDeleteRequest(null, null, userId));
+
+        // then
+        assertEquals(501, response.getDeletedCount());
+        verify(commentBulkDeleter, times(2)).deleteChunk(any());
+    }
+
+    @Test
+    void 대량_삭제_조건이_하나가_아니면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () ->
+                commentAdminService.deleteComments(new CommentBulkDeleteRequest(null, null, null)));
+        assertThrows(InvalidRequestException.class, () ->
+                commentAdminService.deleteComments(new CommentBulkDeleteRequest(List.of(1L), 1L, null)));
     }
-}
\ No newline at end of file
+}
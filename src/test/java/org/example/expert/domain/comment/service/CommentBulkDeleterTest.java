@@ -0,0 +1,60 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.CommentTodoId;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(CommentBulkDeleter.class)
+class CommentBulkDeleterTest {
+
+    @Autowired
+    private CommentBulkDeleter commentBulkDeleter;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 이미_지워진_댓글은_카운터에서_다시_빼지_않는다() {
+        // given
+        User user = em.persist(new User("bulk@test.com", "password", UserRole.USER));
+        Todo todo = em.persist(new Todo("title", "contents", "Sunny", user));
+        Comment first = em.persist(new Comment("comment1", user, todo));
+        Comment second = em.persist(new Comment("comment2", user, todo));
+        em.persist(new Comment("comment3", user, todo));
+        em.flush();
+        todoRepository.adjustCommentCount(todo.getId(), 3);
+
+        // 청크를 읽은 뒤 다른 요청이 첫 번째 댓글을 먼저 지운 상황입니다.
+        List<CommentTodoId> chunk = commentRepository.findTodoIdsByIdIn(List.of(first.getId(), second.getId()));
+        commentRepository.deleteCommentById(first.getId());
+        todoRepository.adjustCommentCount(todo.getId(), -1);
+
+        // when
+        int deleted = commentBulkDeleter.deleteChunk(chunk);
+        em.clear();
+
+        // then
+        assertEquals(1, deleted);
+        assertEquals(1, em.find(Todo.class, todo.getId()).getCommentCount());
+    }
+}
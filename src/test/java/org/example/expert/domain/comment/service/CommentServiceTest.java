@@ -6,6 +6,7 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -16,14 +17,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -32,6 +39,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
 
@@ -71,19 +80,21 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoRepository).adjustCommentCount(todo.getId(), 1);
     }
 
     @Test
     void 빈_댓글_목록_조회() {
         // given
         long todoId = 1L;
-        List<Comment> list = List.of();
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(list);
+        List<CommentResponse> list = List.of();
+        given(commentRepository.findResponsesAfter(eq(todoId), eq(0L), any(Pageable.class))).willReturn(list);
         // when
-        List<CommentResponse> result = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId);
         // then
         assertNotNull(result);
-        assertEquals(0, result.size());
+        assertEquals(0, result.getContent().size());
+        assertFalse(result.isHasNext());
     }
 
     @Test
@@ -92,17 +103,75 @@ class CommentServiceTest {
         long todoId = 1L;
         String contents1 = "contents1";
         String contents2 = "contents2";
-        User user = new User("qwer@1234","password",UserRole.USER);
-        Todo todo = new Todo("title", "content", "sunny", user);
-        Comment comment1 = new Comment(contents1, user, todo);
-        Comment comment2 = new Comment(contents2, user ,todo);
-        List<Comment> list = List.of(comment1, comment2);
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(list);
+        CommentResponse comment1 = new CommentResponse(1L, contents1, 1L, "qwer@1234");
+        CommentResponse comment2 = new CommentResponse(2L, contents2, 1L, "qwer@1234");
+        List<CommentResponse> list = List.of(comment1, comment2);
+        given(commentRepository.findResponsesAfter(eq(todoId), eq(0L), any(Pageable.class))).willReturn(list);
         // when
-        List<CommentResponse> result = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId);
         // then
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(contents1, result.get(0).getContents());
+        assertEquals(2, result.getContent().size());
+        assertEquals(contents1, result.getContent().get(0).getContents());
+    }
+
+    @Test
+    void 댓글_목록은_첫_페이지만_돌려주고_다음_커서를_알려준다() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> list = LongStream.rangeClosed(1, 101)
+                .mapToObj(id -> new CommentResponse(id, "contents" + id, 1L, "qwer@1234"))
+                .toList();
+        given(commentRepository.findResponsesAfter(todoId, 0L, PageRequest.of(0, 101))).willReturn(list);
+        // when
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId);
+        // then
+        assertEquals(100, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals("100", result.getNextCursor());
+    }
+
+    @Test
+    void 댓글_커서_최신순_첫_페이지_조회() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> list = List.of(
+                new CommentResponse(30L, "contents30", 1L, "qwer@1234"),
+                new CommentResponse(20L, "contents20", 1L, "qwer@1234"),
+                new CommentResponse(10L, "contents10", 1L, "qwer@1234")
+        );
+        given(commentRepository.findResponsesBefore(todoId, Long.MAX_VALUE, PageRequest.of(0, 3))).willReturn(list);
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(todoId, null, 2, "desc");
+
+        // then
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getContent().size());
+        assertEquals("20", result.getNextCursor());
+    }
+
+    @Test
+    void 댓글_커서_오래된순_다음_페이지_조회() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> list = List.of(new CommentResponse(11L, "contents11", 1L, "qwer@1234"));
+        given(commentRepository.findResponsesAfter(todoId, 10L, PageRequest.of(0, 3))).willReturn(list);
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getCommentsByCursor(todoId, "10", 2, "asc");
+
+        // then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(11L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void 댓글_커서_조회시_잘못된_요청이면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, "abc", 10, "desc"));
+        assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, null, 10, "random"));
+        assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, null, 101, "asc"));
     }
 }
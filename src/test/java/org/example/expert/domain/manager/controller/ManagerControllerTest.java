@@ -6,6 +6,7 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.service.TodoETagService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -36,6 +37,8 @@ class ManagerControllerTest {
 
     @MockBean
     private ManagerService managerService;
+    @MockBean
+    private TodoETagService todoETagService;
 
     @Test
     void 관리자_등록_성공() throws Exception {
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -38,6 +39,8 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ManagerService managerService;
 
@@ -90,6 +93,7 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoRepository).adjustManagerCount(todo.getId(), 1);
     }
 
     @Test
@@ -146,7 +150,8 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -158,14 +163,11 @@ class ManagerServiceTest {
         // given
         long todoId = 1L;
         User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        ManagerResponse mockManager = new ManagerResponse(1L, 1L, user.getEmail());
+        List<ManagerResponse> managerList = List.of(mockManager);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -199,6 +201,7 @@ class ManagerServiceTest {
         // then
         assertTrue(result);
         verify(managerRepository, times(1)).delete((manager));
+        verify(todoRepository).adjustManagerCount(todoId, -1);
     }
 
 
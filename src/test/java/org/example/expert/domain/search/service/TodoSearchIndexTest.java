@@ -0,0 +1,172 @@
+package org.example.expert.domain.search.service;
+
+import org.apache.lucene.index.IndexWriter;
+import org.example.expert.domain.search.dto.CommentDocument;
+import org.example.expert.domain.search.dto.TodoDocument;
+import org.example.expert.domain.search.dto.TodoSearchHits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoSearchIndexTest {
+
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 색인 디렉터리를 지정하지 않으면 메모리 색인을 사용합니다.
+        todoSearchIndex = new TodoSearchIndex();
+        todoSearchIndex.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        todoSearchIndex.close();
+    }
+
+    @Test
+    void 제목에_일치하는_일정이_댓글에_일치하는_일정보다_먼저_나온다() throws IOException {
+        // given
+        todoSearchIndex.indexTodo(new TodoDocument(1L, "weekly report", "contents"));
+        todoSearchIndex.indexTodo(new TodoDocument(2L, "title", "contents"));
+        todoSearchIndex.indexComment(new CommentDocument(10L, 2L, "please attach the report"));
+        todoSearchIndex.refresh();
+
+        // when
+        List<Long> todoIds = todoSearchIndex.search("Report", 0, 10).getTodoIds();
+
+        // then
+        assertEquals(List.of(1L, 2L), todoIds);
+    }
+
+    @Test
+    void 한_일정의_여러_문서가_일치해도_일정은_한_번만_나온다() throws IOException {
+        // given
+        todoSearchIndex.indexTodo(new TodoDocument(1L, "deploy", "deploy server"));
+        todoSearchIndex.indexComment(new CommentDocument(10L, 1L, "deploy done"));
+        todoSearchIndex.indexComment(new CommentDocument(11L, 1L, "deploy again"));
+        todoSearchIndex.indexTodo(new TodoDocument(2L, "title", "deploy later"));
+        todoSearchIndex.refresh();
+
+        // when
+        List<Long> firstPage = todoSearchIndex.search("deploy", 0, 1).getTodoIds();
+        List<Long> secondPage = todoSearchIndex.search("deploy", 1, 1).getTodoIds();
+
+        // then
+        assertEquals(List.of(1L), firstPage);
+        assertEquals(List.of(2L), secondPage);
+    }
+
+    @Test
+    void 삭제된_일정과_댓글은_검색되지_않는다() throws IOException {
+        // given
+        todoSearchIndex.indexTodo(new TodoDocument(1L, "meeting", "contents"));
+        todoSearchIndex.indexComment(new CommentDocument(10L, 1L, "meeting notes"));
+        todoSearchIndex.indexTodo(new TodoDocument(2L, "title", "contents"));
+        todoSearchIndex.indexComment(new CommentDocument(20L, 2L, "meeting room"));
+        todoSearchIndex.refresh();
+
+        // when
+        todoSearchIndex.deleteTodo(1L);
+        todoSearchIndex.deleteComments(List.of(20L));
+        todoSearchIndex.refresh();
+
+        // then
+        assertTrue(todoSearchIndex.search("meeting", 0, 10).getTodoIds().isEmpty());
+    }
+
+    @Test
+    void 일정을_다시_색인하면_이전_내용은_검색되지_않는다() throws IOException {
+        // given
+        todoSearchIndex.indexTodo(new TodoDocument(1L, "draft", "contents"));
+        todoSearchIndex.refresh();
+
+        // when
+        todoSearchIndex.indexTodo(new TodoDocument(1L, "final", "contents"));
+        todoSearchIndex.refresh();
+
+        // then
+        assertTrue(todoSearchIndex.search("draft", 0, 10).getTodoIds().isEmpty());
+        assertEquals(List.of(1L), todoSearchIndex.search("final", 0, 10).getTodoIds());
+    }
+
+    @Test
+    void 한_일정에_일치하는_댓글이_많아도_페이지를_채운다() throws IOException {
+        // given
+        for (long commentId = 1; commentId <= 500; commentId++) {
+            todoSearchIndex.indexComment(new CommentDocument(commentId, 1L, "deploy"));
+        }
+        todoSearchIndex.indexComment(new CommentDocument(1000L, 2L, "deploy the new build to the staging server tonight"));
+        todoSearchIndex.refresh();
+
+        // when
+        TodoSearchHits hits = todoSearchIndex.search("deploy", 0, 2);
+
+        // then
+        assertEquals(List.of(1L, 2L), hits.getTodoIds());
+        assertFalse(hits.isTruncated());
+    }
+
+    @Test
+    void 읽기_한도를_넘으면_잘린_결과임을_알린다() throws IOException {
+        // given
+        for (long commentId = 1; commentId <= 10_001; commentId++) {
+            todoSearchIndex.indexComment(new CommentDocument(commentId, 1L, "deploy"));
+        }
+        todoSearchIndex.refresh();
+
+        // when
+        TodoSearchHits hits = todoSearchIndex.search("deploy", 0, 2);
+
+        // then
+        assertEquals(List.of(1L), hits.getTodoIds());
+        assertTrue(hits.isTruncated());
+    }
+
+    @Test
+    void 정상_종료되지_않은_색인은_다시_구축하고_남은_문서를_정리한다(@TempDir Path directory) throws IOException {
+        // given
+        TodoSearchIndex index = openIndex(directory);
+        index.indexTodo(new TodoDocument(1L, "kept", "contents"));
+        index.close();
+
+        index = openIndex(directory);
+        assertFalse(index.needsRebuild());
+        index.indexTodo(new TodoDocument(2L, "removed", "contents"));
+        index.commit();
+        // 커밋 이후 변경을 잃고 종료된 상황입니다.
+        index.indexTodo(new TodoDocument(3L, "lost", "contents"));
+        ((IndexWriter) ReflectionTestUtils.getField(index, "writer")).rollback();
+
+        // when
+        index = openIndex(directory);
+        boolean needsRebuild = index.needsRebuild();
+        // DB 에는 1, 3 번 일정만 남아 있다고 보고 다시 색인합니다.
+        index.indexTodo(new TodoDocument(1L, "kept", "contents"));
+        index.indexTodo(new TodoDocument(3L, "lost", "contents"));
+        index.deleteStaleDocuments();
+        index.refresh();
+
+        // then
+        assertTrue(needsRebuild);
+        assertEquals(List.of(1L), index.search("kept", 0, 10).getTodoIds());
+        assertEquals(List.of(3L), index.search("lost", 0, 10).getTodoIds());
+        assertTrue(index.search("removed", 0, 10).getTodoIds().isEmpty());
+        index.close();
+    }
+
+    private TodoSearchIndex openIndex(Path directory) throws IOException {
+        TodoSearchIndex index = new TodoSearchIndex();
+        ReflectionTestUtils.setField(index, "indexDirectory", directory.toString());
+        index.init();
+        return index;
+    }
+}
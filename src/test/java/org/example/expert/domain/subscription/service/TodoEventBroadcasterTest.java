@@ -0,0 +1,200 @@
+package org.example.expert.domain.subscription.service;
+
+import org.example.expert.domain.comment.event.CommentDeletedEvent;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.event.ManagerSavedEvent;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoEventBroadcasterTest {
+
+    private final CountDownLatch senderBlocked = new CountDownLatch(1);
+    private ThreadPoolExecutor sender;
+    private TodoEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // 전송 스레드를 막아 두어 구독자가 버퍼를 비우지 못하는 상황을 만듭니다.
+        sender = singleSender();
+        CountDownLatch started = new CountDownLatch(1);
+        sender.execute(() -> {
+            started.countDown();
+            try {
+                senderBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        broadcaster = new TodoEventBroadcaster(3, Duration.ofMinutes(1), 2, Duration.ofSeconds(5), 1, sender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        senderBlocked.countDown();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void 버퍼가_가득_찬_느린_구독자만_연결을_끊는다() {
+        // given
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+
+        // when
+        // 구독 직후의 heartbeat 와 함께 버퍼 3칸을 채운 뒤 하나를 더 보냅니다.
+        broadcaster.onManagerSaved(new ManagerSavedEvent(1L, 10L, 100L));
+        broadcaster.onCommentDeleted(new CommentDeletedEvent(1L, List.of(20L)));
+        assertEquals(1, broadcaster.getSubscriberCount(1L));
+        broadcaster.onManagerSaved(new ManagerSavedEvent(1L, 11L, 101L));
+
+        // then
+        assertEquals(0, broadcaster.getSubscriberCount(1L));
+        assertEquals(1, broadcaster.getSubscriberCount(2L));
+    }
+
+    @Test
+    void 최대_구독자_수를_넘으면_거절하고_끊긴_자리는_다시_쓸_수_있다() {
+        // given
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(1L);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> broadcaster.subscribe(2L));
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onManagerSaved(new ManagerSavedEvent(1L, 10L + i, 100L));
+        }
+        assertEquals(0, broadcaster.getSubscriberCount(1L));
+        assertNotNull(broadcaster.subscribe(2L));
+    }
+
+    @Test
+    void 전송이_멈춘_구독자를_끊고_다른_구독자의_전송은_늘린_스레드로_이어간다() throws Exception {
+        // given
+        ThreadPoolExecutor stalledSender = singleSender();
+        CountDownLatch stalledSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseStalledSend = new CountDownLatch(1);
+        CountDownLatch otherSent = new CountDownLatch(1);
+        AtomicInteger emitters = new AtomicInteger();
+        TodoEventBroadcaster stalling = new TodoEventBroadcaster(8, Duration.ofMinutes(1), 10, Duration.ofMillis(1), 1, stalledSender) {
+            @Override
+            SseEmitter createEmitter() {
+                // 첫 번째 구독자는 클라이언트가 읽지 않아 쓰기가 막힌 연결입니다.
+                boolean stalled = emitters.getAndIncrement() == 0;
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        if (stalled) {
+                            stalledSendStarted.countDown();
+                            await(releaseStalledSend);
+                        } else {
+                            otherSent.countDown();
+                        }
+                    }
+                };
+            }
+        };
+
+        try {
+            stalling.subscribe(1L);
+            assertTrue(stalledSendStarted.await(1, TimeUnit.SECONDS));
+            stalling.subscribe(2L);
+            Thread.sleep(5);
+
+            // when
+            stalling.disconnectStalledSubscribers();
+
+            // then
+            assertTrue(otherSent.await(1, TimeUnit.SECONDS));
+            assertEquals(0, stalling.getSubscriberCount(1L));
+            assertEquals(1, stalling.getSubscriberCount(2L));
+            assertEquals(2, stalledSender.getCorePoolSize());
+
+            // 막혔던 쓰기가 돌아오면 늘렸던 스레드를 되돌립니다.
+            releaseStalledSend.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (stalledSender.getCorePoolSize() != 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, stalledSender.getCorePoolSize());
+        } finally {
+            releaseStalledSend.countDown();
+            stalledSender.shutdownNow();
+        }
+    }
+
+    @Test
+    void 일정이_삭제되면_삭제를_알린_뒤_그_일정의_연결을_닫는다() throws Exception {
+        // given
+        ThreadPoolExecutor deleteSender = singleSender();
+        Queue<String> sent = new ConcurrentLinkedQueue<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        TodoEventBroadcaster closing = new TodoEventBroadcaster(8, Duration.ofMinutes(1), 10, Duration.ofSeconds(5), 1, deleteSender) {
+            @Override
+            SseEmitter createEmitter() {
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        builder.build().forEach(part -> sent.add(String.valueOf(part.getData())));
+                    }
+
+                    @Override
+                    public void complete() {
+                        completed.countDown();
+                    }
+                };
+            }
+        };
+
+        try {
+            closing.subscribe(1L);
+            closing.subscribe(2L);
+
+            // when
+            closing.onTodoDeleted(new TodoDeletedEvent(1L));
+            closing.onManagerSaved(new ManagerSavedEvent(1L, 10L, 100L));
+
+            // then
+            assertTrue(completed.await(1, TimeUnit.SECONDS));
+            assertTrue(sent.stream().anyMatch(part -> part.contains("event:todo-deleted")));
+            assertTrue(sent.stream().noneMatch(part -> part.contains("event:manager-saved")));
+            assertEquals(0, closing.getSubscriberCount(1L));
+            assertEquals(1, closing.getSubscriberCount(2L));
+            // 닫힌 자리는 최대 구독자 수에서도 빠집니다.
+            for (int i = 0; i < 9; i++) {
+                closing.subscribe(3L);
+            }
+            assertThrows(ServiceUnavailableException.class, () -> closing.subscribe(3L));
+        } finally {
+            deleteSender.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolExecutor singleSender() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
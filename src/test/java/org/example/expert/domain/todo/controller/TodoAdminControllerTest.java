@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TodoAdminController.class)
+class TodoAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TodoAdminService todoAdminService;
+
+    @Test
+    void 일정_내보내기는_NDJSON_으로_응답한다() throws Exception {
+        // given
+        String body = "{\"id\":1}\n{\"id\":2}\n";
+        given(todoAdminService.exportTodos(any(OutputStream.class))).willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        // when & then
+        mockMvc.perform(get("/admin/todos/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(body));
+    }
+}
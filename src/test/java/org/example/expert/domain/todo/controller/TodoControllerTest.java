@@ -1,11 +1,22 @@
 package org.example.expert.domain.todo.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.todo.dto.TodoSnapshot;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.service.TodoETagService;
+import org.example.expert.domain.todo.service.TodoResponseCache;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -14,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,13 +38,18 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 @WebMvcTest(TodoController.class)
+@Import(TodoResponseCache.class)
 class TodoControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -40,6 +57,8 @@ class TodoControllerTest {
     private ObjectMapper objectMapper;
     @MockBean
     private TodoService todoService;
+    @MockBean
+    private TodoETagService todoETagService;
     @Test
     void 일정_저장_성공() throws Exception{
         // given
@@ -89,6 +108,51 @@ class TodoControllerTest {
     }
 
 
+    @Test
+    void 일정_대량_저장_성공() throws Exception {
+        // given
+        TodoBulkSaveRequest request = new TodoBulkSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        ));
+        TodoBulkSaveResponse response = new TodoBulkSaveResponse("sunny", List.of(
+                TodoBulkItemResult.success(0, 1L),
+                TodoBulkItemResult.success(1, 2L)
+        ));
+        given(todoService.saveTodos(any(AuthUser.class), any(TodoBulkSaveRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "qwer@1234")
+                        .requestAttr("userRole", UserRole.USER.name())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].id").value(2L));
+    }
+
+    @Test
+    void 일정_대량_저장시_항목_하나라도_유효하지_않으면_실패한다() throws Exception {
+        // given
+        TodoBulkSaveRequest request = new TodoBulkSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("", "contents2")
+        ));
+
+        // when & then
+        mockMvc.perform(post("/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "qwer@1234")
+                        .requestAttr("userRole", UserRole.USER.name())
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 일정_목록_조회() throws Exception {
         // given
@@ -163,7 +227,7 @@ class TodoControllerTest {
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
-        given(todoService.getTodo(anyLong())).willReturn(todoResponse);
+        given(todoService.getTodoSnapshot(todoId)).willReturn(snapshot(todoResponse, 0L));
 
         //when && then
         mockMvc.perform(get("/todos/{todoId}",todoId))
@@ -172,4 +236,142 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.title").value(title));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void 단일_일정_재조회는_캐시된_응답을_내려준다() throws Exception {
+        // given
+        long todoId = 100L;
+        TodoResponse todoResponse = new TodoResponse(
+                todoId, "cached", "contents", "sunny", 1L, "qwer@1234", LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        given(todoETagService.todoVersion(todoId)).willReturn(0L);
+        given(todoService.getTodoSnapshot(todoId)).willReturn(snapshot(todoResponse, 0L));
+
+        // when
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("cached"))
+                .andExpect(jsonPath("$.managerCount").value(1));
+
+        // then
+        verify(todoService, times(1)).getTodoSnapshot(todoId);
+    }
+
+    @Test
+    void 다른_노드에서_버전이_오르면_캐시된_본문을_버리고_다시_읽는다() throws Exception {
+        // given
+        long todoId = 150L;
+        LocalDateTime now = LocalDateTime.now();
+        given(todoETagService.todoVersion(todoId)).willReturn(1L, 2L);
+        given(todoService.getTodoSnapshot(todoId)).willReturn(
+                snapshot(new TodoResponse(todoId, "old", "contents", "sunny", 1L, "qwer@1234", now, now, 0, 1), 1L),
+                snapshot(new TodoResponse(todoId, "new", "contents", "sunny", 1L, "qwer@1234", now, now, 0, 1), 2L));
+
+        // when
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(jsonPath("$.title").value("old"));
+
+        // then
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"150-2\""))
+                .andExpect(jsonPath("$.title").value("new"));
+        verify(todoService, times(2)).getTodoSnapshot(todoId);
+    }
+
+    @Test
+    void 단일_일정_ETag_는_내려주는_본문의_버전으로_만든다() throws Exception {
+        // given
+        long todoId = 200L;
+        TodoResponse todoResponse = new TodoResponse(
+                todoId, "title", "contents", "sunny", 1L, "qwer@1234", LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        // 버전을 읽은 뒤 본문을 읽기 전에 수정이 끼어든 경우입니다.
+        given(todoETagService.todoVersion(todoId)).willReturn(3L);
+        given(todoService.getTodoSnapshot(todoId)).willReturn(snapshot(todoResponse, 4L));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header("If-None-Match", "\"200-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"200-4\""))
+                .andExpect(jsonPath("$.id").value(todoId));
+    }
+
+    @Test
+    void 단일_일정_ETag_가_같으면_304_를_돌려준다() throws Exception {
+        // given
+        long todoId = 300L;
+        given(todoETagService.todoVersion(todoId)).willReturn(5L);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header("If-None-Match", "\"300-5\""))
+                .andExpect(status().isNotModified());
+        verify(todoService, never()).getTodoSnapshot(todoId);
+    }
+
+    @Test
+    void 일정_상세_조회_성공() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoResponse todoResponse = new TodoResponse(
+                todoId, "title", "contents", "sunny", 1L, "qwer@1234", LocalDateTime.now(), LocalDateTime.now(), 0, 0);
+        TodoDetailResponse detailResponse = new TodoDetailResponse(
+                todoResponse,
+                List.of(new ManagerResponse(1L, 1L, "qwer@1234")),
+                List.of(new CommentResponse(1L, "comment", 2L, "asdf@1234"))
+        );
+        given(todoService.getTodoDetail(todoId)).willReturn(detailResponse);
+
+        // when && then
+        mockMvc.perform(get("/todos/{todoId}/detail", todoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todo.id").value(todoId))
+                .andExpect(jsonPath("$.managers[0].user.email").value("qwer@1234"))
+                .andExpect(jsonPath("$.comments[0].contents").value("comment"));
+    }
+
+    @Test
+    void 커서_기반_일정_목록_조회() throws Exception {
+        // given
+        TodoResponse response = new TodoResponse(
+                1L,
+                "title",
+                "contents",
+                "sunny",
+                new UserResponse(1L, "qwer@1234"),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+        CursorResponse<TodoResponse> cursorResponse = new CursorResponse<>(List.of(response), "nextCursor", true);
+        given(todoService.getTodosByCursor(any(), anyInt())).willReturn(cursorResponse);
+
+        // when & then
+        mockMvc.perform(get("/todos/cursor").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void 슬라이스_일정_목록_조회() throws Exception {
+        // given
+        TodoSliceResponse sliceResponse = new TodoSliceResponse(List.of(), 1, 10, false, 0L);
+        given(todoService.getTodoSlice(anyInt(), anyInt())).willReturn(sliceResponse);
+
+        // when & then
+        mockMvc.perform(get("/todos/slice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    private TodoSnapshot snapshot(TodoResponse todo, long version) {
+        return new TodoSnapshot(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                todo.getUser().getId(), todo.getUser().getEmail(), todo.getCreatedAt(), todo.getModifiedAt(),
+                todo.getCommentCount(), todo.getManagerCount(), version);
+    }
+}
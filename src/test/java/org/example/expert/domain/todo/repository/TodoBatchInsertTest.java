@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoBatchInsertTest {
+
+    private static final int COUNT = 200;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 일정과_댓글을_대량_저장하면_배치로_묶여_실행된다() {
+        // given
+        User user = userRepository.save(new User("batch@test.com", "password", UserRole.USER));
+        em.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Todo> todos = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "Sunny", user);
+            todos.add(todo);
+            comments.add(new Comment("comment" + i, user, todo));
+        }
+
+        // when
+        todoRepository.saveAll(todos);
+        commentRepository.saveAll(comments);
+
+        // then
+        // 시퀀스 방식이라 flush 전에 이미 id 가 할당되고 INSERT 는 아직 실행되지 않습니다.
+        assertTrue(todos.stream().allMatch(todo -> todo.getId() != null));
+        assertEquals(0, statistics.getEntityInsertCount());
+
+        em.flush();
+
+        // 일정, 담당자, 댓글 600건이 50건 단위 배치와 몇 번의 시퀀스 조회로 처리됩니다.
+        assertEquals(COUNT * 3, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 60,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+}
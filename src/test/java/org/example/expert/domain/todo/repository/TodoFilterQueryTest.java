@@ -0,0 +1,177 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 인덱스 검증은 Hibernate 가 실제로 만든 SQL 을 StatementInspector 로 받아 EXPLAIN 합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "org.example.expert.domain.todo.repository.TodoFilterQueryTest$SqlCapture")
+class TodoFilterQueryTest {
+
+    private static final String[] WEATHERS = {"Sunny", "Rainy", "Cloudy", "Snowy", "Windy"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final int LIMIT = 11;
+
+    // H2 는 외래 키마다 user_id 단일 인덱스를 따로 만들고 작성자 조건에는 그 인덱스를 고릅니다.
+    // MySQL 은 (user_id, modifiedAt, id) 인덱스를 외래 키에 재사용하므로 둘 중 어느 쪽이든 user_id 로 탐색하면 됩니다.
+    private static final String USER_ID_INDEX = "PUBLIC\\.(IDX_TODOS_USER_ID_MODIFIED_AT_ID|FK\\w+): USER_ID = ";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@filter.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("other@filter.com", "password", UserRole.USER));
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, WEATHERS[i % WEATHERS.length], i % 4 == 0 ? owner : other));
+        }
+        todoRepository.saveAll(todos);
+        em.flush();
+
+        // 슬라이스 테스트에서는 auditing 이 꺼져 있으므로 수정 시각을 직접 지정합니다.
+        for (int i = 0; i < todos.size(); i++) {
+            jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", BASE.plusHours(i), todos.get(i).getId());
+        }
+        em.clear();
+    }
+
+    @Test
+    void 작성자와_날씨로_거른_목록을_커서로_끝까지_읽는다() {
+        // given
+        TodoFilter filter = new TodoFilter(owner.getId(), "Sunny", null, null);
+
+        // when
+        List<TodoResponse> firstPage = todoRepository.findFilteredPage(filter, null, 3);
+        TodoResponse last = firstPage.get(firstPage.size() - 1);
+        List<TodoResponse> secondPage = todoRepository.findFilteredPage(
+                filter, new TodoCursor(last.getModifiedAt(), last.getId()), 3);
+
+        // then
+        // i % 4 == 0 && i % 5 == 0 인 i = 80, 60, 40, 20, 0 이 최신순으로 나옵니다.
+        assertEquals(List.of("title80", "title60", "title40"), firstPage.stream().map(TodoResponse::getTitle).toList());
+        assertEquals(List.of("title20", "title0"), secondPage.stream().map(TodoResponse::getTitle).toList());
+        assertTrue(firstPage.stream().allMatch(todo -> "owner@filter.com".equals(todo.getUser().getEmail())));
+    }
+
+    @Test
+    void 수정_시각_구간은_시작을_포함하고_끝을_포함하지_않는다() {
+        // given
+        TodoFilter filter = new TodoFilter(null, null, BASE.plusHours(10), BASE.plusHours(13));
+
+        // when
+        List<TodoResponse> todos = todoRepository.findFilteredPage(filter, null, 10);
+
+        // then
+        assertEquals(List.of("title12", "title11", "title10"), todos.stream().map(TodoResponse::getTitle).toList());
+    }
+
+    @Test
+    void 필터_조합마다_테이블_전체_스캔_없이_인덱스를_사용한다() {
+        LocalDateTime from = BASE.plusHours(10);
+        LocalDateTime to = BASE.plusHours(50);
+        Long ownerId = owner.getId();
+
+        // 바인딩 값은 findFilteredPage 가 조건을 붙이는 순서(작성자, 날씨, 시작, 끝, 커서)대로 넘깁니다.
+        assertUsesIndex(USER_ID_INDEX,
+                new TodoFilter(ownerId, null, null, null), null, ownerId);
+        assertUsesIndex("IDX_TODOS_WEATHER_MODIFIED_AT_ID: WEATHER = ",
+                new TodoFilter(null, "Sunny", null, null), null, "Sunny");
+        assertUsesIndex("IDX_TODOS_MODIFIED_AT_ID: MODIFIED_AT >= ",
+                new TodoFilter(null, null, from, to), null, from, to);
+        assertUsesIndex(USER_ID_INDEX,
+                new TodoFilter(ownerId, null, from, to), null, ownerId, from, to);
+        assertUsesIndex("IDX_TODOS_WEATHER_MODIFIED_AT_ID: ",
+                new TodoFilter(null, "Sunny", from, to), null, "Sunny", from, to);
+        assertUsesIndex(USER_ID_INDEX,
+                new TodoFilter(ownerId, "Sunny", null, null), null, ownerId, "Sunny");
+        // 다음 페이지 조건이 붙어도 인덱스 탐색이 유지됩니다.
+        assertUsesIndex(USER_ID_INDEX,
+                new TodoFilter(ownerId, null, null, null), new TodoCursor(to, 50L), ownerId, to, to, 50L);
+    }
+
+    @Test
+    void 커서_목록_다음_페이지는_수정_시각_범위로_인덱스를_탐색한다() {
+        // given
+        LocalDateTime modifiedAt = BASE.plusHours(50);
+        Long todoId = jdbcTemplate.queryForObject("SELECT id FROM todos WHERE title = 'title50'", Long.class);
+
+        // when
+        List<TodoResponse> todos = todoRepository.findCursorPageAfter(modifiedAt, todoId, PageRequest.of(0, LIMIT));
+
+        // then
+        assertEquals(List.of("title49", "title48", "title47"),
+                todos.stream().limit(3).map(TodoResponse::getTitle).toList());
+        assertUsesIndex("IDX_TODOS_MODIFIED_AT_ID: MODIFIED_AT <= ",
+                () -> todoRepository.findCursorPageAfter(modifiedAt, todoId, PageRequest.of(0, LIMIT)),
+                modifiedAt, modifiedAt, todoId);
+    }
+
+    private void assertUsesIndex(String expectedIndex, TodoFilter filter, TodoCursor cursor, Object... args) {
+        assertUsesIndex(expectedIndex, () -> todoRepository.findFilteredPage(filter, cursor, LIMIT), args);
+    }
+
+    private void assertUsesIndex(String expectedIndex, Runnable query, Object... args) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.contains(" from todos "))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        List<Object> params = new ArrayList<>(List.of(args));
+        params.add(LIMIT);
+        assertEquals(params.size(), sql.chars().filter(c -> c == '?').count(), sql);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params.toArray());
+
+        assertNotNull(plan);
+        assertFalse(plan.contains("PUBLIC.TODOS.tableScan"), plan);
+        assertTrue(Pattern.compile(expectedIndex).matcher(plan).find(), plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TodoVersionTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 하위_목록과_날씨의_벌크_변경도_일정_버전을_올린다() {
+        // given
+        User user = userRepository.save(new User("version@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", null, user));
+        em.flush();
+        long initial = todoRepository.findVersionById(todo.getId()).orElseThrow();
+
+        // when
+        todoRepository.adjustCommentCount(todo.getId(), 1);
+        todoRepository.adjustManagerCount(todo.getId(), 1);
+        todoRepository.updatePendingWeather(List.of(todo.getId()), "Sunny");
+
+        // then
+        assertEquals(initial + 3, todoRepository.findVersionById(todo.getId()).orElseThrow());
+    }
+
+    @Test
+    void 일정을_수정하면_버전이_오른다() {
+        // given
+        User user = userRepository.save(new User("update@test.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        em.flush();
+        long initial = todo.getVersion();
+
+        // when
+        todo.update("new title", "new contents");
+        em.flush();
+
+        // then
+        assertEquals(initial + 1, todo.getVersion());
+        assertEquals(initial + 1, todoRepository.findVersionById(todo.getId()).orElseThrow());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({TodoAdminService.class, JacksonAutoConfiguration.class})
+class TodoAdminServiceTest {
+
+    @Autowired
+    private TodoAdminService todoAdminService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void 일정과_댓글을_일정당_한_줄의_JSON_으로_내보낸다() throws Exception {
+        // given
+        User user = em.persist(new User("export@test.com", "password", UserRole.USER));
+        Todo todo1 = em.persist(new Todo("title1", "contents1", "Sunny", user));
+        em.persist(new Todo("title2", "contents2", "Rainy", user));
+        em.persist(new Comment("comment1", user, todo1));
+        em.persist(new Comment("comment2", user, todo1));
+        em.flush();
+        em.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = todoAdminService.exportTodos(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("title1", first.get("title").asText());
+        assertEquals(2, first.get("comments").size());
+        assertEquals("comment2", first.get("comments").get(1).get("contents").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("export@test.com", second.get("user").get("email").asText());
+        assertEquals(0, second.get("comments").size());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoUpdatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import(TodoCounterReconciler.class)
+class TodoCounterReconcilerTest {
+
+    @Autowired
+    private TodoCounterReconciler todoCounterReconciler;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void 카운터는_원자적으로_증감하고_어긋나면_보정된다() {
+        // given
+        User user = em.persist(new User("counter@test.com", "password", UserRole.USER));
+        Todo todo = em.persist(new Todo("title", "contents", "Sunny", user));
+        em.persist(new Todo("other", "contents", "Sunny", user)); // 카운터가 맞는 일정
+        em.persist(new Comment("comment1", user, todo));
+        em.persist(new Comment("comment2", user, todo));
+        em.flush();
+
+        todoRepository.adjustCommentCount(todo.getId(), 1);
+        todoRepository.adjustCommentCount(todo.getId(), 5); // 실제보다 많게 어긋난 상태
+        em.clear();
+        assertEquals(6, em.find(Todo.class, todo.getId()).getCommentCount());
+
+        // when
+        todoCounterReconciler.reconcile();
+        em.clear();
+
+        // then
+        Todo reconciled = em.find(Todo.class, todo.getId());
+        assertEquals(2, reconciled.getCommentCount());
+        assertEquals(1, reconciled.getManagerCount());
+        // 보정된 일정만 응답 캐시에서 비웁니다.
+        assertEquals(List.of(todo.getId()), applicationEvents.stream(TodoUpdatedEvent.class)
+                .map(TodoUpdatedEvent::getTodoId)
+                .toList());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TodoService.class, TodoBulkWriter.class})
+class TodoDetailQueryCountTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @MockBean
+    private TodoCountCache todoCountCache;
+
+    @Test
+    void 일정_상세_조회는_댓글_수와_무관하게_쿼리_3번으로_끝난다() {
+        // given
+        User writer = em.persist(new User("writer@test.com", "password", UserRole.USER));
+        User commenter = em.persist(new User("commenter@test.com", "password", UserRole.USER));
+        Todo todo = em.persist(new Todo("title", "contents", "Sunny", writer));
+        for (int i = 0; i < 5; i++) {
+            em.persist(new Comment("comment" + i, i % 2 == 0 ? writer : commenter, todo));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        TodoDetailResponse response = todoService.getTodoDetail(todo.getId());
+
+        // then
+        assertEquals(1, response.getManagers().size());
+        assertEquals(5, response.getComments().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.TodoValidator;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoETagServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoETagService todoETagService;
+
+    @Test
+    void 댓글을_하나_지우고_하나_추가해도_댓글_ETag_가_바뀐다() {
+        // given
+        given(todoRepository.findValidatorById(1L))
+                .willReturn(Optional.of(new TodoValidator(1L, 2, 1, 10L, 3L)))
+                .willReturn(Optional.of(new TodoValidator(1L, 2, 1, 11L, 3L)));
+
+        // when
+        String before = todoETagService.commentsETag(1L);
+        String after = todoETagService.commentsETag(1L);
+
+        // then
+        assertNotEquals(before, after);
+        assertTrue(before.startsWith("\"") && before.endsWith("\""));
+    }
+
+    @Test
+    void 담당자만_바뀌면_댓글_ETag_는_그대로다() {
+        // given
+        given(todoRepository.findValidatorById(1L))
+                .willReturn(Optional.of(new TodoValidator(1L, 2, 1, 10L, 3L)))
+                .willReturn(Optional.of(new TodoValidator(1L, 2, 2, 10L, 4L)));
+
+        // when & then
+        assertEquals(todoETagService.commentsETag(1L), todoETagService.commentsETag(1L));
+    }
+
+    @Test
+    void 일정_ETag_는_버전으로_만든다() {
+        // given
+        given(todoRepository.findVersionById(1L)).willReturn(Optional.of(7L));
+
+        // when & then
+        assertEquals(7L, todoETagService.todoVersion(1L));
+        assertEquals("\"1-7\"", TodoETagService.todoETag(1L, 7L));
+    }
+
+    @Test
+    void 일정이_없으면_버전이_없다() {
+        // given
+        given(todoRepository.findVersionById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertNull(todoETagService.todoVersion(1L));
+    }
+}
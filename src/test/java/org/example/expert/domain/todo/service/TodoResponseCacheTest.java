@@ -0,0 +1,98 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.manager.event.ManagerDeletedEvent;
+import org.example.expert.domain.todo.dto.CachedTodoResponse;
+import org.example.expert.domain.todo.dto.TodoSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoResponseCacheTest {
+
+    private TodoResponseCache todoResponseCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        todoResponseCache = new TodoResponseCache(objectMapper, DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void 같은_버전이면_한_번만_조회하고_직렬화된_바이트를_재사용한다() {
+        // when
+        CachedTodoResponse first = todoResponseCache.get(1L, 0L, () -> load(1L, 0, 0L));
+        CachedTodoResponse second = todoResponseCache.get(1L, 0L, () -> load(1L, 0, 0L));
+
+        // then
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(1, loads.get());
+        assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"title\":\"title1\""));
+    }
+
+    @Test
+    void 이벤트를_받지_못해도_DB_버전이_다르면_다시_조회한다() {
+        // given
+        todoResponseCache.get(1L, 0L, () -> load(1L, 0, 0L));
+
+        // when
+        CachedTodoResponse reloaded = todoResponseCache.get(1L, 1L, () -> load(1L, 1, 1L));
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(1L, reloaded.getVersion());
+        assertTrue(new String(reloaded.getBody(), StandardCharsets.UTF_8).contains("\"commentCount\":1"));
+        todoResponseCache.get(1L, 1L, () -> load(1L, 1, 1L));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 늦게_적재된_낮은_버전이_높은_버전을_덮어쓰지_않는다() {
+        // given
+        todoResponseCache.get(1L, 2L, () -> load(1L, 2, 2L));
+
+        // when
+        CachedTodoResponse stale = todoResponseCache.get(1L, 1L, () -> load(1L, 1, 1L));
+        CachedTodoResponse current = todoResponseCache.get(1L, 2L, () -> load(1L, 2, 2L));
+
+        // then
+        assertEquals(1L, stale.getVersion());
+        assertEquals(2L, current.getVersion());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 댓글이나_담당자가_바뀌면_해당_일정_항목만_비운다() {
+        // given
+        todoResponseCache.get(1L, 0L, () -> load(1L, 0, 0L));
+        todoResponseCache.get(2L, 0L, () -> load(2L, 0, 0L));
+
+        // when
+        todoResponseCache.onCommentSaved(new CommentSavedEvent(1L, null));
+        todoResponseCache.get(1L, 0L, () -> load(1L, 0, 0L));
+        todoResponseCache.get(2L, 0L, () -> load(2L, 0, 0L));
+
+        // then
+        assertEquals(3, loads.get());
+
+        todoResponseCache.onManagerDeleted(new ManagerDeletedEvent(2L, 10L));
+        todoResponseCache.get(2L, 0L, () -> load(2L, 0, 0L));
+        assertEquals(4, loads.get());
+    }
+
+    private TodoSnapshot load(long todoId, int commentCount, long version) {
+        loads.incrementAndGet();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new TodoSnapshot(todoId, "title" + todoId, "contents", "Sunny", 1L, "user@test.com", now, now, commentCount, 1, version);
+    }
+}
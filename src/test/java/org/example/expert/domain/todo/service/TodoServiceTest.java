@@ -1,12 +1,26 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoVersionResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -16,18 +30,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -38,6 +61,21 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private TodoBulkWriter todoBulkWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -62,6 +100,25 @@ class TodoServiceTest {
         assertNotNull(result);
     }
 
+    @Test
+    void 날씨_지연_모드에서는_날씨_없이_저장한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        TodoSaveRequest request = new TodoSaveRequest("제목", "내용");
+        Todo todo = new Todo("제목", "내용", null, user);
+        ReflectionTestUtils.setField(todoService, "deferredWeather", true);
+
+        given(todoRepository.save(any())).willReturn(todo);
+
+        // when
+        TodoSaveResponse result = todoService.saveTodo(authUser, request);
+
+        // then
+        assertNull(result.getWeather());
+        verify(weatherClient, never()).getTodayWeather();
+    }
+
     @Test
     void 할일_저장_중_날씨_찾기_실패() {
         // given
@@ -77,29 +134,68 @@ class TodoServiceTest {
         assertThrows(ServerException.class, () -> todoService.saveTodo(authUser, request));
     }
 
+    @Test
+    void 일정_대량_저장시_날씨는_한_번만_조회하고_청크로_나눠_저장한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        List<TodoSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            requests.add(new TodoSaveRequest("title" + i, "contents" + i));
+        }
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            todos.forEach(todo -> ReflectionTestUtils.setField(todo, "id", 1L));
+            return todos;
+        });
+
+        // when
+        TodoBulkSaveResponse response = todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+
+        // then
+        assertEquals(250, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        assertEquals("Sunny", response.getWeather());
+        assertEquals(249, response.getResults().get(249).getIndex());
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoBulkWriter, times(2)).saveChunk(anyList());
+    }
+
+    @Test
+    void 일정_대량_저장시_실패한_청크만_실패로_표시된다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        List<TodoSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 201; i++) {
+            requests.add(new TodoSaveRequest("title" + i, "contents" + i));
+        }
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoBulkWriter.saveChunk(anyList()))
+                .willThrow(new DataIntegrityViolationException("fail"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoBulkSaveResponse response = todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+
+        // then
+        assertEquals(200, response.getFailed());
+        assertEquals(1, response.getSucceeded());
+        assertFalse(response.getResults().get(0).isSuccess());
+        assertTrue(response.getResults().get(200).isSuccess());
+    }
+
     @Test
     void 일정_전체_조회() {
         // given
-        User user = new User("qwer@1234","password",UserRole.USER);
         int page = 1;
         int size = 5;
-        Todo todo1 = new Todo(
-                "title1",
-                "contents1",
-                "sunny1",
-                user
-        );
-        Todo todo2 = new Todo(
-                "title2",
-                "contents2",
-                "sunny2",
-                user
-        );
-        List<Todo> list = List.of(todo1, todo2);
-        Page<Todo> todoPage =
+        TodoResponse todo1 = todoResponse(1L, "title1", LocalDateTime.now());
+        TodoResponse todo2 = todoResponse(2L, "title2", LocalDateTime.now());
+        List<TodoResponse> list = List.of(todo1, todo2);
+        Page<TodoResponse> todoPage =
                 new PageImpl<>(list, PageRequest.of(page -1, size),2);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(
+        given(todoRepository.findTodoResponses(
                 PageRequest.of(page -1, size)))
                 .willReturn(todoPage);
 
@@ -118,9 +214,9 @@ class TodoServiceTest {
         // given
         int page = 1;
         int size = 5;
-        List<Todo> list = List.of();
-        Page<Todo> todoPage = new PageImpl<>(list, PageRequest.of(page-1, size), 0);
-        given(todoRepository.findAllByOrderByModifiedAtDesc(
+        List<TodoResponse> list = List.of();
+        Page<TodoResponse> todoPage = new PageImpl<>(list, PageRequest.of(page-1, size), 0);
+        given(todoRepository.findTodoResponses(
                 PageRequest.of(page -1, size)))
                 .willReturn(todoPage);
         // when
@@ -131,14 +227,34 @@ class TodoServiceTest {
         assertEquals(0, responses.getTotalElements());
     }
 
+    @Test
+    void 일정_슬라이스_조회() {
+        // given
+        int page = 1;
+        int size = 2;
+        List<TodoResponse> list = List.of(
+                todoResponse(1L, "title1", LocalDateTime.now()),
+                todoResponse(2L, "title2", LocalDateTime.now())
+        );
+        given(todoRepository.findTodoResponseSlice(PageRequest.of(page - 1, size)))
+                .willReturn(new SliceImpl<>(list, PageRequest.of(page - 1, size), true));
+        given(todoCountCache.getApproximateTotal()).willReturn(10L);
+
+        // when
+        TodoSliceResponse response = todoService.getTodoSlice(page, size);
+
+        // then
+        assertEquals(2, response.getContent().size());
+        assertTrue(response.isHasNext());
+        assertEquals(10L, response.getApproximateTotal());
+    }
+
     @Test
     void 단일_일정_조회_성공() {
         // given
-        Todo todo = new Todo("title", "contents", "Sunny",
-                new User("qwer@1234","password",UserRole.USER));
         long todoId = 1L;
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findTodoResponseById(anyLong()))
+                .willReturn(Optional.of(todoResponse(todoId, "title", LocalDateTime.now())));
         // when
         TodoResponse todoResponse = todoService.getTodo(todoId);
 
@@ -151,11 +267,179 @@ class TodoServiceTest {
     void 단일_일정_조회_실패() {
         // given
         long todoId = 100L;
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.findTodoResponseById(anyLong())).willReturn(Optional.empty());
 
         // when & then
         assertThrows(InvalidRequestException.class,
                 () -> todoService.getTodo(todoId),"Todo not found");
     }
 
-}
\ No newline at end of file
+    @Test
+    void 일정_상세_조회_성공() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findTodoResponseById(todoId))
+                .willReturn(Optional.of(todoResponse(todoId, "title", LocalDateTime.now())));
+        given(managerRepository.findResponsesByTodoId(todoId))
+                .willReturn(List.of(new ManagerResponse(1L, 1L, "qwer@1234")));
+        given(commentRepository.findResponsesByTodoId(todoId))
+                .willReturn(List.of(new CommentResponse(1L, "contents", 2L, "asdf@1234")));
+
+        // when
+        TodoDetailResponse response = todoService.getTodoDetail(todoId);
+
+        // then
+        assertEquals(todoId, response.getTodo().getId());
+        assertEquals(1, response.getManagers().size());
+        assertEquals("contents", response.getComments().get(0).getContents());
+    }
+
+    @Test
+    void 일정_상세_조회시_일정이_없으면_예외가_발생한다() {
+        // given
+        long todoId = 100L;
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodoDetail(todoId));
+        verify(commentRepository, never()).findResponsesByTodoId(anyLong());
+    }
+
+    @Test
+    void 일정_삭제시_자식_행을_벌크로_지운다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        given(todoRepository.findByIdForUpdate(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        verify(commentRepository).deleteAllByTodoId(todoId);
+        verify(managerRepository).deleteAllByTodoId(todoId);
+        verify(todoRepository).delete(todo);
+    }
+
+    @Test
+    void 작성자가_아니면_일정을_삭제할_수_없다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(2L, "other", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(new AuthUser(1L, "email", UserRole.USER)));
+        given(todoRepository.findByIdForUpdate(todoId)).willReturn(Optional.of(todo));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.deleteTodo(authUser, todoId));
+        verify(todoRepository, never()).delete(any(Todo.class));
+    }
+
+    @Test
+    void 알고_있는_버전이_최신이면_변경되지_않았다고_알려준다() {
+        // given
+        given(todoRepository.findVersionById(1L)).willReturn(Optional.of(3L));
+
+        // when
+        TodoVersionResponse unchanged = todoService.getTodoVersion(1L, 3L);
+        TodoVersionResponse changed = todoService.getTodoVersion(1L, 2L);
+
+        // then
+        assertFalse(unchanged.isChanged());
+        assertTrue(changed.isChanged());
+        assertEquals(3L, changed.getVersion());
+    }
+
+    @Test
+    void 요청한_버전이_현재_버전과_다르면_일정을_수정할_수_없다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 5L);
+        given(todoRepository.findByIdForUpdate(todoId)).willReturn(Optional.of(todo));
+
+        // when & then
+        assertThrows(ConflictException.class,
+                () -> todoService.updateTodo(authUser, todoId, new TodoUpdateRequest("new", "new", 4L)));
+        assertEquals("title", todo.getTitle());
+    }
+
+    @Test
+    void 커서_첫_페이지_조회() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TodoResponse todo1 = todoResponse(3L, "title3", now);
+        TodoResponse todo2 = todoResponse(2L, "title2", now.minusMinutes(1));
+        TodoResponse todo3 = todoResponse(1L, "title1", now.minusMinutes(2));
+        given(todoRepository.findFirstCursorPage(PageRequest.of(0, 3))).willReturn(List.of(todo1, todo2, todo3));
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 2);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals(2, response.getContent().size());
+        TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(2L, nextCursor.getTodoId());
+        assertEquals(now.minusMinutes(1), nextCursor.getModifiedAt());
+    }
+
+    @Test
+    void 커서_다음_페이지_조회() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+        TodoResponse todo = todoResponse(1L, "title1", modifiedAt.minusMinutes(1));
+        given(todoRepository.findCursorPageAfter(modifiedAt, 2L, PageRequest.of(0, 3))).willReturn(List.of(todo));
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 2);
+
+        // then
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertEquals(1L, response.getContent().get(0).getId());
+    }
+
+    @Test
+    void 잘못된_커서로_조회시_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("invalid", 10));
+    }
+
+    @Test
+    void 필터_목록_조회시_다음_페이지_커서를_만든다() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TodoFilter filter = new TodoFilter(1L, "sunny", null, null);
+        List<TodoResponse> todos = List.of(
+                todoResponse(3L, "title3", now),
+                todoResponse(2L, "title2", now.minusMinutes(1)),
+                todoResponse(1L, "title1", now.minusMinutes(2))
+        );
+        given(todoRepository.findFilteredPage(filter, null, 3)).willReturn(todos);
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getFilteredTodos(filter, null, 2);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals(2, response.getContent().size());
+        assertEquals(2L, TodoCursor.decode(response.getNextCursor()).getTodoId());
+    }
+
+    @Test
+    void 필터_기간의_시작이_끝보다_늦으면_예외가_발생한다() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        TodoFilter filter = new TodoFilter(null, null, now, now.minusDays(1));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getFilteredTodos(filter, null, 10));
+    }
+
+    private TodoResponse todoResponse(long todoId, String title, LocalDateTime modifiedAt) {
+        return new TodoResponse(todoId, title, "contents", "sunny", 1L, "qwer@1234", modifiedAt, modifiedAt, 0, 0);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@Import({TodoService.class, TodoBulkWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoServiceTransactionTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @MockBean
+    private TodoCountCache todoCountCache;
+
+    @Test
+    void 날씨_조회_중에는_트랜잭션과_커넥션을_점유하지_않는다() {
+        // given
+        User user = userRepository.save(new User("transaction@test.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        TodoSaveRequest request = new TodoSaveRequest("title", "contents");
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicBoolean connectionBound = new AtomicBoolean(true);
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionBound.set(TransactionSynchronizationManager.hasResource(dataSource));
+            return "Sunny";
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertFalse(transactionActive.get());
+        assertFalse(connectionBound.get());
+        assertTrue(todoRepository.findById(response.getId()).isPresent());
+    }
+}
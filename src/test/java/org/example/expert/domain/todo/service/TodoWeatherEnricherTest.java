@@ -0,0 +1,80 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Test
+    void 날씨가_비어있는_일정을_생성일_날씨로_채운다() {
+        // given
+        User user = new User("qwer@1234", "password", UserRole.USER);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Todo todo1 = pendingTodo(1L, user, createdAt);
+        Todo todo2 = pendingTodo(2L, user, createdAt);
+        given(todoRepository.findByWeatherIsNullAndIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .willReturn(List.of(todo1, todo2));
+        given(weatherClient.getWeather(LocalDate.of(2024, 3, 1))).willReturn("Sunny");
+
+        // when
+        todoWeatherEnricher.enrichPendingWeather();
+
+        // then
+        verify(todoRepository, times(1)).updatePendingWeather(List.of(1L, 2L), "Sunny");
+    }
+
+    @Test
+    void 날씨_조회에_실패하면_다음_주기로_미룬다() {
+        // given
+        User user = new User("qwer@1234", "password", UserRole.USER);
+        Todo todo = pendingTodo(1L, user, LocalDateTime.of(2024, 3, 1, 12, 0));
+        given(todoRepository.findByWeatherIsNullAndIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .willReturn(List.of(todo));
+        given(weatherClient.getWeather(any(LocalDate.class))).willThrow(new ServerException("error"));
+
+        // when
+        todoWeatherEnricher.enrichPendingWeather();
+
+        // then
+        verify(todoRepository, never()).updatePendingWeather(anyList(), anyString());
+    }
+
+    private Todo pendingTodo(long todoId, User user, LocalDateTime createdAt) {
+        Todo todo = new Todo("title", "contents", null, user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        ReflectionTestUtils.setField(todo, "createdAt", createdAt);
+        return todo;
+    }
+}